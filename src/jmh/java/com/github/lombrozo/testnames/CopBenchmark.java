@@ -0,0 +1,187 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+import com.github.lombrozo.testnames.javaparser.JavaParserProject;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * End-to-end benchmark: discovery, parsing and inspection of a project.
+ *
+ * @since 1.4.0
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("PMD")
+public class CopBenchmark {
+
+    /**
+     * The number of test files.
+     */
+    @Param({"10", "100"})
+    public int files;
+
+    /**
+     * The number of test methods in each file.
+     */
+    @Param("10")
+    public int methods;
+
+    /**
+     * The number of assertions in each test method.
+     */
+    @Param("4")
+    public int assertions;
+
+    /**
+     * The number of threads used for the inspection.
+     */
+    @Param({"1", "4"})
+    public int threads;
+
+    /**
+     * The root of the synthetic project.
+     */
+    private Path root;
+
+    /**
+     * Write the synthetic project.
+     * @throws IOException If the project can't be written.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.root = new SyntheticProject(this.files, this.methods, this.assertions).write();
+    }
+
+    /**
+     * Delete the synthetic project.
+     * @throws IOException If the project can't be deleted.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        SyntheticProject.delete(this.root);
+    }
+
+    /**
+     * Inspect the whole project.
+     * @return The number of complaints.
+     */
+    @Benchmark
+    public int inspection() {
+        return this.cop().inspection().size();
+    }
+
+    /**
+     * Inspect the whole project and measure the heap that stays reachable
+     * while the complaints are still in use.
+     * Since the parsed classes are released right after inspection, the
+     * retained heap must not grow with the number of files.
+     * The benchmark triggers GC, so only the counter is meaningful, not the
+     * throughput.
+     * @param heap Retained heap counter.
+     * @return The complaints.
+     */
+    @Benchmark
+    public Collection<Complaint> retained(final Heap heap) {
+        final Collection<Complaint> complaints = this.cop().inspection();
+        heap.measure();
+        return complaints;
+    }
+
+    /**
+     * The cop for the synthetic project.
+     * @return The cop.
+     */
+    private Cop cop() {
+        return new Cop(
+            new JavaParserProject(
+                this.root.resolve("main"),
+                this.root.resolve("test"),
+                Collections.emptyList(),
+                this.threads
+            ),
+            new Parameters(),
+            this.threads
+        );
+    }
+
+    /**
+     * Heap retained after the inspection.
+     *
+     * @since 1.4.0
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Heap {
+
+        /**
+         * The maximum heap used after GC in the current iteration, in bytes.
+         */
+        public long retainedBytes;
+
+        /**
+         * Reset the counter before each iteration.
+         */
+        @Setup(Level.Iteration)
+        public void reset() {
+            this.retainedBytes = 0L;
+        }
+
+        /**
+         * Run GC and remember the used heap.
+         */
+        void measure() {
+            System.gc();
+            final Runtime runtime = Runtime.getRuntime();
+            this.retainedBytes = Math.max(
+                this.retainedBytes,
+                runtime.totalMemory() - runtime.freeMemory()
+            );
+        }
+    }
+}
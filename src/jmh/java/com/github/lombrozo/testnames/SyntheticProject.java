@@ -0,0 +1,147 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Synthetic project for benchmarks.
+ * Generates a tree of production and test classes of the configurable size.
+ *
+ * @since 1.4.0
+ */
+public final class SyntheticProject {
+
+    /**
+     * The number of test files.
+     */
+    private final int files;
+
+    /**
+     * The number of test methods in each file.
+     */
+    private final int methods;
+
+    /**
+     * The number of assertions in each test method.
+     */
+    private final int assertions;
+
+    /**
+     * Ctor.
+     * @param files The number of test files.
+     * @param methods The number of test methods in each file.
+     * @param assertions The number of assertions in each test method.
+     */
+    public SyntheticProject(final int files, final int methods, final int assertions) {
+        this.files = files;
+        this.methods = methods;
+        this.assertions = assertions;
+    }
+
+    /**
+     * Write the project into a new temporary directory.
+     * Production classes are placed into the 'main' subdirectory and
+     * tests into the 'test' one.
+     * @return The root directory of the project.
+     * @throws IOException If the project can't be written.
+     */
+    public Path write() throws IOException {
+        final Path root = Files.createTempDirectory("jtcop-jmh");
+        final Path main = Files.createDirectories(root.resolve("main"));
+        final Path test = Files.createDirectories(root.resolve("test"));
+        for (int index = 0; index < this.files; ++index) {
+            Files.write(
+                main.resolve(String.format("Synthetic%d.java", index)),
+                String.format("final class Synthetic%d {\n}\n", index)
+                    .getBytes(StandardCharsets.UTF_8)
+            );
+            Files.write(
+                test.resolve(String.format("Synthetic%dTest.java", index)),
+                this.source(index).getBytes(StandardCharsets.UTF_8)
+            );
+        }
+        return root;
+    }
+
+    /**
+     * Source code of the test class.
+     * Odd assertions are JUnit ones, even assertions are Hamcrest ones.
+     * Every second assertion is nested into a block to make statements deeper.
+     * @param index The index of the test class.
+     * @return Source code.
+     */
+    public String source(final int index) {
+        final StringBuilder source = new StringBuilder(0)
+            .append("import org.hamcrest.MatcherAssert;\n")
+            .append("import org.hamcrest.Matchers;\n")
+            .append("import org.junit.jupiter.api.Assertions;\n")
+            .append("import org.junit.jupiter.api.Test;\n\n")
+            .append(String.format("final class Synthetic%dTest {\n", index));
+        for (int method = 0; method < this.methods; ++method) {
+            source.append("\n    @Test\n")
+                .append(String.format("    void checksCase%d() {\n", method))
+                .append(String.format("        final int value = %d;\n", method));
+            for (int check = 0; check < this.assertions; ++check) {
+                final String assertion;
+                if (check % 2 == 0) {
+                    assertion = String.format(
+                        "Assertions.assertEquals(%d, value, \"value is %d\");", method, check
+                    );
+                } else {
+                    assertion = String.format(
+                        "MatcherAssert.assertThat(\"value is %d\", value, Matchers.equalTo(%d));",
+                        check,
+                        method
+                    );
+                }
+                if (check % 4 == 3) {
+                    source.append("        if (value >= 0) {\n")
+                        .append("            ").append(assertion).append('\n')
+                        .append("        }\n");
+                } else {
+                    source.append("        ").append(assertion).append('\n');
+                }
+            }
+            source.append("    }\n");
+        }
+        return source.append("}\n").toString();
+    }
+
+    /**
+     * Delete the project written before.
+     * @param root The root directory of the project.
+     * @throws IOException If the project can't be deleted.
+     */
+    public static void delete(final Path root) throws IOException {
+        try (Stream<Path> all = Files.walk(root)) {
+            all.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.resolution.SymbolResolver;
+import com.github.lombrozo.testnames.Assertion;
+import com.github.lombrozo.testnames.SyntheticProject;
+import com.github.lombrozo.testnames.TestClass;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of parsing a single test class and walking its methods.
+ *
+ * @since 1.4.0
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("PMD")
+public class JavaParserBenchmark {
+
+    /**
+     * The number of test methods in the class.
+     */
+    @Param({"10", "100", "500"})
+    public int methods;
+
+    /**
+     * The number of assertions in each test method.
+     * Deep methods are measured separately by {@link JavaParserDeepBenchmark}.
+     */
+    @Param({"1", "10"})
+    public int assertions;
+
+    /**
+     * The root of the synthetic project.
+     */
+    private Path root;
+
+    /**
+     * The test file.
+     */
+    private Path file;
+
+    /**
+     * Already parsed test class.
+     */
+    private JavaParserClass parsed;
+
+    /**
+     * Symbol resolver shared by all the parsed files.
+     */
+    private SymbolResolver shared;
+
+    /**
+     * Write and parse the synthetic test class.
+     * @throws IOException If the class can't be written.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.root = new SyntheticProject(1, this.methods, this.assertions).write();
+        this.file = this.root.resolve("test").resolve("Synthetic0Test.java");
+        this.parsed = new JavaParserClass(this.file, JavaParserProject.resolver());
+        this.shared = JavaParserProject.resolver();
+    }
+
+    /**
+     * Delete the synthetic project.
+     * @throws IOException If the project can't be deleted.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        SyntheticProject.delete(this.root);
+    }
+
+    /**
+     * Parse the file and check whether it is a test.
+     * @return True if the file is a test.
+     */
+    @Benchmark
+    public boolean parse() {
+        return new JavaParserClass(this.file, JavaParserProject.resolver()).isTest();
+    }
+
+    /**
+     * Parse the file and resolve explanations of all the assertions with a
+     * symbol solver shared by all the files, as each inspection thread does.
+     * @return The number of explained assertions.
+     */
+    @Benchmark
+    public long sharedSolver() {
+        return JavaParserBenchmark.explained(new JavaParserClass(this.file, this.shared));
+    }
+
+    /**
+     * Parse the file and resolve explanations of all the assertions with a
+     * new symbol solver for the file.
+     * It is the baseline for {@link #sharedSolver()}.
+     * @return The number of explained assertions.
+     */
+    @Benchmark
+    public long perFileSolver() {
+        return JavaParserBenchmark.explained(
+            new JavaParserClass(this.file, JavaParserProject.resolver())
+        );
+    }
+
+    /**
+     * Flatten statements of all the methods.
+     * @return The number of method calls.
+     */
+    @Benchmark
+    public long statements() {
+        return this.parsed.methods().flatMap(JavaParserMethod::statements).count();
+    }
+
+    /**
+     * Classify assertions of all the test methods.
+     * @return The number of assertions.
+     */
+    @Benchmark
+    public long classify() {
+        final TestClass parent = new TestClass.Fake();
+        return this.parsed.methods(new TestsOnly())
+            .map(method -> new JavaParserTestCase(method, parent))
+            .mapToLong(test -> test.assertions().size())
+            .sum();
+    }
+
+    /**
+     * Collect test cases of the class and put them into a hash set,
+     * as rules do when they compare test cases.
+     * @return The number of distinct test cases.
+     */
+    @Benchmark
+    public int cases() {
+        return new HashSet<>(
+            new JavaParserTestClass(this.file, this.parsed, Collections.emptyList()).all()
+        ).size();
+    }
+
+    /**
+     * Put test methods into a hash set, comparing them by name and position.
+     * @return The number of distinct test methods.
+     */
+    @Benchmark
+    public int positional() {
+        return this.parsed.methods(new TestsOnly())
+            .collect(Collectors.toCollection(HashSet::new))
+            .size();
+    }
+
+    /**
+     * Put test methods into a hash set, comparing their whole syntax trees,
+     * as test cases were compared before.
+     * It is the baseline for {@link #positional()}.
+     * @return The number of distinct test methods.
+     */
+    @Benchmark
+    public int structural() {
+        return this.parsed.methods(new TestsOnly())
+            .map(method -> new Structural(method.asMethodDeclaration()))
+            .collect(Collectors.toCollection(HashSet::new))
+            .size();
+    }
+
+    /**
+     * Resolve explanations of all the assertions of the class.
+     * @param klass Parsed class.
+     * @return The number of explained assertions.
+     */
+    private static long explained(final JavaParserClass klass) {
+        final TestClass parent = new TestClass.Fake();
+        return klass.methods(new TestsOnly())
+            .map(method -> new JavaParserTestCase(method, parent))
+            .flatMap(test -> test.assertions().stream())
+            .map(Assertion::explanation)
+            .filter(Optional::isPresent)
+            .count();
+    }
+
+    /**
+     * Method compared by its whole syntax tree.
+     *
+     * @since 1.4.0
+     */
+    private static final class Structural {
+
+        /**
+         * The method declaration.
+         */
+        private final MethodDeclaration method;
+
+        /**
+         * Ctor.
+         * @param method The method declaration.
+         */
+        Structural(final MethodDeclaration method) {
+            this.method = method;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof Structural
+                && this.method.equals(((Structural) other).method);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.method.hashCode();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.stmt.Statement;
+import com.github.lombrozo.testnames.SyntheticProject;
+import com.github.lombrozo.testnames.TestClass;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of walking a few very long test methods.
+ * It is kept apart from {@link JavaParserBenchmark}, so the long methods are
+ * not combined with large numbers of methods.
+ * Run it with {@code -prof gc} to compare allocation of {@link #statements()}
+ * and {@link #recursive()}.
+ *
+ * @since 1.4.0
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("PMD")
+public class JavaParserDeepBenchmark {
+
+    /**
+     * The number of test methods in the class.
+     */
+    @Param("5")
+    public int methods;
+
+    /**
+     * The number of assertions in each test method.
+     */
+    @Param("2000")
+    public int assertions;
+
+    /**
+     * The root of the synthetic project.
+     */
+    private Path root;
+
+    /**
+     * Already parsed test class.
+     */
+    private JavaParserClass parsed;
+
+    /**
+     * Write and parse the synthetic test class.
+     * @throws IOException If the class can't be written.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.root = new SyntheticProject(1, this.methods, this.assertions).write();
+        this.parsed = new JavaParserClass(
+            this.root.resolve("test").resolve("Synthetic0Test.java"),
+            JavaParserProject.resolver()
+        );
+    }
+
+    /**
+     * Delete the synthetic project.
+     * @throws IOException If the project can't be deleted.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        SyntheticProject.delete(this.root);
+    }
+
+    /**
+     * Flatten statements of all the methods.
+     * @return The number of method calls.
+     */
+    @Benchmark
+    public long statements() {
+        return this.parsed.methods().flatMap(JavaParserMethod::statements).count();
+    }
+
+    /**
+     * Flatten statements of all the methods with nested streams, as
+     * statements were flattened before.
+     * It is the baseline for {@link #statements()}.
+     * @return The number of method calls.
+     */
+    @Benchmark
+    public long recursive() {
+        return this.parsed.methods()
+            .map(method -> method.asMethodDeclaration().getBody())
+            .filter(Optional::isPresent)
+            .map(Optional::get)
+            .flatMap(body -> JavaParserDeepBenchmark.flat(body.getStatements().stream()))
+            .filter(Statement::isExpressionStmt)
+            .map(statement -> statement.asExpressionStmt().getExpression())
+            .filter(Expression::isMethodCallExpr)
+            .map(MethodCallExpr.class::cast)
+            .count();
+    }
+
+    /**
+     * Classify assertions of all the test methods.
+     * @return The number of assertions.
+     */
+    @Benchmark
+    public long classify() {
+        final TestClass parent = new TestClass.Fake();
+        return this.parsed.methods(new TestsOnly())
+            .map(method -> new JavaParserTestCase(method, parent))
+            .mapToLong(test -> test.assertions().size())
+            .sum();
+    }
+
+    /**
+     * Unroll statements with a nested stream for each node.
+     * @param stmts Statements to unroll.
+     * @return Stream of statements.
+     */
+    private static Stream<Statement> flat(final Stream<? extends Statement> stmts) {
+        return stmts.flatMap(JavaParserDeepBenchmark::nested);
+    }
+
+    /**
+     * Statements of the node and of all its children.
+     * @param node Node to extract statements from.
+     * @return Stream of statements.
+     */
+    private static Stream<Statement> nested(final Node node) {
+        return Stream.concat(
+            Stream.of(node)
+                .filter(Statement.class::isInstance)
+                .map(Statement.class::cast),
+            node.getChildNodes()
+                .stream()
+                .flatMap(JavaParserDeepBenchmark::nested)
+        );
+    }
+}
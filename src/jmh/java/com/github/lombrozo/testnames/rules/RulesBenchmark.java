@@ -0,0 +1,197 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.rules;
+
+import com.github.lombrozo.testnames.Parameters;
+import com.github.lombrozo.testnames.Project;
+import com.github.lombrozo.testnames.SyntheticProject;
+import com.github.lombrozo.testnames.TestCase;
+import com.github.lombrozo.testnames.TestClass;
+import com.github.lombrozo.testnames.javaparser.JavaParserProject;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of each rule over already parsed test classes.
+ *
+ * @since 1.4.0
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("PMD")
+public class RulesBenchmark {
+
+    /**
+     * The number of test files.
+     */
+    @Param({"10", "100"})
+    public int files;
+
+    /**
+     * The number of test methods in each file.
+     */
+    @Param("10")
+    public int methods;
+
+    /**
+     * The number of assertions in each test method.
+     */
+    @Param("4")
+    public int assertions;
+
+    /**
+     * The root of the synthetic project.
+     */
+    private Path root;
+
+    /**
+     * The project.
+     */
+    private Project project;
+
+    /**
+     * Parsed test classes.
+     */
+    private Collection<TestClass> tests;
+
+    /**
+     * Write and parse the synthetic project.
+     * @throws IOException If the project can't be written.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.root = new SyntheticProject(this.files, this.methods, this.assertions).write();
+        this.project = new Project.Cached(
+            new JavaParserProject(
+                this.root.resolve("main"),
+                this.root.resolve("test"),
+                Collections.emptyList()
+            )
+        );
+        this.tests = this.project.testClasses();
+        this.project.productionClasses();
+    }
+
+    /**
+     * Delete the synthetic project.
+     * @throws IOException If the project can't be deleted.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        SyntheticProject.delete(this.root);
+    }
+
+    /**
+     * Check all test cases.
+     * @return The number of complaints.
+     */
+    @Benchmark
+    public int correctTestCases() {
+        int complaints = 0;
+        for (final TestClass test : this.tests) {
+            complaints += new RuleCorrectTestCases(test).complaints().size();
+        }
+        return complaints;
+    }
+
+    /**
+     * Check clean test cases, which have no complaints at all.
+     * All synthetic test methods are clean, so run it with '-prof gc'
+     * to see what checking a single clean test method allocates.
+     * @return The number of complaints.
+     */
+    @Benchmark
+    public int cleanTestCases() {
+        final Parameters params = new Parameters();
+        int complaints = 0;
+        for (final TestClass test : this.tests) {
+            for (final TestCase method : test.all()) {
+                complaints += new RuleCorrectTestCase(method, params).complaints().size();
+            }
+        }
+        return complaints;
+    }
+
+    /**
+     * Check that all tests have production classes.
+     * @return The number of complaints.
+     */
+    @Benchmark
+    public int allTestsHaveProductionClass() {
+        final ProductionClassesIndex index = new ProductionClassesIndex(this.project);
+        int complaints = 0;
+        for (final TestClass test : this.tests) {
+            complaints += new RuleAllTestsHaveProductionClass(index, test).complaints().size();
+        }
+        return complaints;
+    }
+
+    /**
+     * Check names of test classes.
+     * @return The number of complaints.
+     */
+    @Benchmark
+    public int correctTestName() {
+        int complaints = 0;
+        for (final TestClass test : this.tests) {
+            complaints += new RuleCorrectTestName(test).complaints().size();
+        }
+        return complaints;
+    }
+
+    /**
+     * Check inheritance in test classes.
+     * @return The number of complaints.
+     */
+    @Benchmark
+    public int inheritanceInTests() {
+        int complaints = 0;
+        for (final TestClass test : this.tests) {
+            complaints += new RuleInheritanceInTests(test).complaints().size();
+        }
+        return complaints;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.rules.ml;
+
+import com.github.lombrozo.testnames.TestCase;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of the ML present tense rule over many test names.
+ * The model is downloaded on the first run and cached in
+ * 'src/test/resources/ml'.
+ *
+ * @since 1.4.0
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("PMD")
+public class RulePresentSimpleMlBenchmark {
+
+    /**
+     * Verbs for test names.
+     */
+    private static final String[] VERBS = {
+        "builds", "checks", "locks", "creates", "build", "chicken", "returns", "is"
+    };
+
+    /**
+     * Objects for test names.
+     */
+    private static final String[] OBJECTS = {
+        "Request", "Branch", "Report", "Release", "Author", "Version", "It", "True"
+    };
+
+    /**
+     * The number of test names.
+     */
+    @Param("5000")
+    public int names;
+
+    /**
+     * The number of threads that check the names.
+     */
+    @Param({"1", "4"})
+    public int threads;
+
+    /**
+     * Tagger shared by all threads.
+     */
+    private Tagger tagger;
+
+    /**
+     * Test cases to check.
+     */
+    private TestCase[] tests;
+
+    /**
+     * Threads that check the names.
+     */
+    private ForkJoinPool pool;
+
+    /**
+     * Load the model and generate test names.
+     * @throws Exception If the model can't be loaded.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        this.tagger = new Tagger(new CachedModelSource(new ModelSourceInternet()).model());
+        this.tests = new TestCase[this.names];
+        final int size = RulePresentSimpleMlBenchmark.VERBS.length;
+        for (int index = 0; index < this.names; ++index) {
+            this.tests[index] = new TestCase.Fake(
+                String.format(
+                    "%s%s%d",
+                    RulePresentSimpleMlBenchmark.VERBS[index % size],
+                    RulePresentSimpleMlBenchmark.OBJECTS[index / size % size],
+                    index
+                )
+            );
+        }
+        this.pool = new ForkJoinPool(this.threads);
+    }
+
+    /**
+     * Stop the threads.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.pool.shutdown();
+    }
+
+    /**
+     * Check all the names with the shared tagger.
+     * @return The number of complaints.
+     */
+    @Benchmark
+    public long check() {
+        return this.pool.submit(
+            () -> IntStream.range(0, this.tests.length)
+                .parallel()
+                .mapToLong(
+                    index -> new RulePresentSimpleMl(this.tagger, this.tests[index])
+                        .complaints()
+                        .size()
+                )
+                .sum()
+        ).join();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The law that takes complaints of unchanged test files from the cache.
+ * Rules of the original law are evaluated only for new or changed files.
+ *
+ * @since 1.4.0
+ */
+final class CachedLaw implements Function<Suspect, Stream<Rule>> {
+
+    /**
+     * The original law.
+     */
+    private final Function<Suspect, Stream<Rule>> origin;
+
+    /**
+     * The cache.
+     */
+    private final ComplaintsCache cache;
+
+    /**
+     * Ctor.
+     * @param origin The original law.
+     * @param cache The cache.
+     */
+    CachedLaw(final Function<Suspect, Stream<Rule>> origin, final ComplaintsCache cache) {
+        this.origin = origin;
+        this.cache = cache;
+    }
+
+    @Override
+    public Stream<Rule> apply(final Suspect suspect) {
+        final Stream<Rule> result;
+        final Optional<String> key = this.cache.key(suspect.test().path());
+        if (key.isPresent()) {
+            final Optional<Collection<Complaint>> cached = this.cache.complaints(key.get());
+            if (cached.isPresent()) {
+                result = Stream.of(cached::get);
+            } else {
+                result = Stream.of(() -> this.inspect(suspect, key.get()));
+            }
+        } else {
+            result = this.origin.apply(suspect);
+        }
+        return result;
+    }
+
+    /**
+     * Apply the original law and remember the complaints.
+     * @param suspect The suspect.
+     * @param key The cache key of the test file.
+     * @return The complaints.
+     */
+    private Collection<Complaint> inspect(final Suspect suspect, final String key) {
+        final Collection<Complaint> complaints = this.origin.apply(suspect)
+            .map(Rule::complaints)
+            .flatMap(Collection::stream)
+            .collect(Collectors.toList());
+        this.cache.put(key, complaints);
+        return complaints;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Iterator over several streams, one after another.
+ * The next stream is opened only when the previous one is exhausted, so
+ * unlike {@link Stream#flatMap} on Java 8 it never drains a whole inner stream
+ * into a buffer. All the opened streams are closed on {@link #close()}.
+ *
+ * @param <T> Type of the elements.
+ * @since 1.4.0
+ */
+final class Chained<T> implements Iterator<T>, AutoCloseable {
+
+    /**
+     * Streams that are not opened yet.
+     */
+    private final Iterator<? extends Supplier<? extends Stream<T>>> streams;
+
+    /**
+     * Opened streams, the last opened one is on the top.
+     */
+    private final Deque<Stream<T>> opened;
+
+    /**
+     * Iterator of the last opened stream.
+     */
+    private Iterator<T> current;
+
+    /**
+     * Ctor.
+     * @param streams Streams to open one after another.
+     */
+    Chained(final Iterator<? extends Supplier<? extends Stream<T>>> streams) {
+        this.streams = streams;
+        this.opened = new ArrayDeque<>(1);
+        this.current = Collections.emptyIterator();
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!this.current.hasNext() && this.streams.hasNext()) {
+            final Stream<T> next = this.streams.next().get();
+            this.opened.push(next);
+            this.current = next.iterator();
+        }
+        return this.current.hasNext();
+    }
+
+    @Override
+    public T next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException("There are no more elements");
+        }
+        return this.current.next();
+    }
+
+    @Override
+    public void close() {
+        while (!this.opened.isEmpty()) {
+            this.opened.pop().close();
+        }
+    }
+}
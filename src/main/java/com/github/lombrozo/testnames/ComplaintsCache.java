@@ -0,0 +1,346 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Complaints of test files stored on disk between builds.
+ * Each entry is keyed by the path and the content of its test file.
+ * Complaints of a test file may also depend on other files, like production
+ * classes, custom matchers or base classes, so all the entries share one
+ * fingerprint of the configuration and of every file under the source roots
+ * that is not a test class itself. If the fingerprint has changed, no entry is
+ * used; otherwise only the test files whose key has changed are checked again.
+ * The files that were not test classes are remembered along with the
+ * fingerprint, so a new test file doesn't invalidate the other entries.
+ * Each file is read at most once per build.
+ *
+ * @since 1.4.0
+ */
+final class ComplaintsCache {
+
+    /**
+     * Separator between complaint messages of a single file and between paths.
+     */
+    private static final String SEPARATOR = "\u001e";
+
+    /**
+     * Pattern to split complaint messages and paths.
+     */
+    private static final Pattern SPLIT = Pattern.compile(ComplaintsCache.SEPARATOR);
+
+    /**
+     * Extensions of the source files, including compiled generated tests.
+     */
+    private static final String[] EXTENSIONS = {".java", ".class"};
+
+    /**
+     * Property with the shared fingerprint.
+     */
+    private static final String FINGERPRINT = "fingerprint";
+
+    /**
+     * Property with the files covered by the fingerprint.
+     */
+    private static final String SHARED = "shared";
+
+    /**
+     * Prefix of properties with complaints of test files.
+     */
+    private static final String ENTRY = "test.";
+
+    /**
+     * The cache file.
+     */
+    private final Path file;
+
+    /**
+     * The configuration of the inspection.
+     */
+    private final String config;
+
+    /**
+     * Source roots the symbol resolver can see.
+     */
+    private final Collection<Path> sources;
+
+    /**
+     * Entries of the previous build, empty if its fingerprint has changed.
+     */
+    private final Unchecked<Map<String, String>> previous;
+
+    /**
+     * Entries used during the current build.
+     */
+    private final Map<String, String> current;
+
+    /**
+     * Test files checked during the current build.
+     */
+    private final Set<Path> tests;
+
+    /**
+     * Hashes of the files read during the current build.
+     */
+    private final Map<Path, String> hashes;
+
+    /**
+     * Ctor.
+     * @param file The cache file.
+     * @param config The configuration of the inspection.
+     * @param sources Source roots the symbol resolver can see.
+     */
+    ComplaintsCache(final Path file, final String config, final Collection<Path> sources) {
+        this.file = file;
+        this.config = config;
+        this.sources = sources;
+        this.previous = new Unchecked<>(new Synced<>(new Sticky<>(this::load)));
+        this.current = new ConcurrentHashMap<>(0);
+        this.tests = ConcurrentHashMap.newKeySet();
+        this.hashes = new ConcurrentHashMap<>(0);
+    }
+
+    /**
+     * The key of the test file.
+     * The file is remembered as a test class, so it is not a part of the fingerprint.
+     * @param path The path to the test file.
+     * @return The key, or empty if the file can't be read.
+     */
+    Optional<String> key(final Path path) {
+        final Optional<String> result;
+        if (Files.isRegularFile(path)) {
+            final Path test = path.toAbsolutePath().normalize();
+            this.tests.add(test);
+            result = Optional.of(this.hash(test));
+        } else {
+            result = Optional.empty();
+        }
+        return result;
+    }
+
+    /**
+     * Complaints stored by the previous build.
+     * @param key The key of the test file.
+     * @return The complaints, or empty if the file is not cached.
+     */
+    Optional<Collection<Complaint>> complaints(final String key) {
+        final Optional<Collection<Complaint>> result;
+        final String value = this.previous.value().get(key);
+        if (value == null) {
+            result = Optional.empty();
+        } else {
+            this.current.put(key, value);
+            result = Optional.of(ComplaintsCache.parse(value));
+        }
+        return result;
+    }
+
+    /**
+     * Remember complaints of the test file.
+     * @param key The key of the test file.
+     * @param complaints The complaints.
+     */
+    void put(final String key, final Collection<? extends Complaint> complaints) {
+        this.current.put(
+            key,
+            complaints.stream()
+                .map(Complaint::message)
+                .collect(Collectors.joining(ComplaintsCache.SEPARATOR))
+        );
+    }
+
+    /**
+     * Save the entries used during the current build.
+     * All the files under the source roots, except the checked test files,
+     * are covered by the saved fingerprint.
+     */
+    void save() {
+        final Collection<Path> shared = new TreeSet<>();
+        for (final Path root : this.sources) {
+            for (final String extension : ComplaintsCache.EXTENSIONS) {
+                for (final Path source : new FilesTree(root, extension).files()) {
+                    final Path normalized = source.toAbsolutePath().normalize();
+                    if (!this.tests.contains(normalized)) {
+                        shared.add(normalized);
+                    }
+                }
+            }
+        }
+        final Properties props = new Properties();
+        this.current.forEach(
+            (key, value) -> props.setProperty(ComplaintsCache.ENTRY.concat(key), value)
+        );
+        props.setProperty(ComplaintsCache.FINGERPRINT, this.fingerprint(shared));
+        props.setProperty(
+            ComplaintsCache.SHARED,
+            shared.stream()
+                .map(Path::toString)
+                .collect(Collectors.joining(ComplaintsCache.SEPARATOR))
+        );
+        try {
+            Files.createDirectories(this.file.toAbsolutePath().getParent());
+            try (OutputStream out = Files.newOutputStream(this.file)) {
+                props.store(out, "JTCOP incremental cache");
+            }
+        } catch (final IOException ex) {
+            throw new IllegalStateException(
+                String.format("Can't save the cache to %s", this.file),
+                ex
+            );
+        }
+    }
+
+    /**
+     * Load entries of the previous build.
+     * @return Entries, or nothing if the fingerprint has changed since then.
+     * @throws IOException If the file can't be read.
+     */
+    private Map<String, String> load() throws IOException {
+        final Map<String, String> result = new ConcurrentHashMap<>(0);
+        if (Files.isRegularFile(this.file)) {
+            final Properties props = new Properties();
+            try (InputStream in = Files.newInputStream(this.file)) {
+                props.load(in);
+            }
+            final String shared = props.getProperty(ComplaintsCache.SHARED, "");
+            final Collection<Path> files;
+            if (shared.isEmpty()) {
+                files = Collections.emptyList();
+            } else {
+                files = Arrays.stream(ComplaintsCache.SPLIT.split(shared))
+                    .map(Paths::get)
+                    .collect(Collectors.toList());
+            }
+            if (this.fingerprint(files).equals(props.getProperty(ComplaintsCache.FINGERPRINT))) {
+                for (final String name : props.stringPropertyNames()) {
+                    if (name.startsWith(ComplaintsCache.ENTRY)) {
+                        result.put(
+                            name.substring(ComplaintsCache.ENTRY.length()),
+                            props.getProperty(name)
+                        );
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Fingerprint of the configuration and the shared files.
+     * @param shared Files that are not test classes.
+     * @return The fingerprint.
+     */
+    private String fingerprint(final Collection<Path> shared) {
+        final MessageDigest digest = ComplaintsCache.digest();
+        digest.update(this.config.getBytes(StandardCharsets.UTF_8));
+        for (final Path path : shared) {
+            digest.update((byte) 0);
+            if (Files.isRegularFile(path)) {
+                digest.update(this.hash(path).getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest());
+    }
+
+    /**
+     * Hash of the path and the content of the file.
+     * The file is read only once, the next calls return the same hash.
+     * @param path Absolute path to the file.
+     * @return The hash.
+     */
+    private String hash(final Path path) {
+        return this.hashes.computeIfAbsent(
+            path,
+            absolute -> {
+                final MessageDigest digest = ComplaintsCache.digest();
+                digest.update(absolute.toString().getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+                try {
+                    digest.update(Files.readAllBytes(absolute));
+                } catch (final IOException ex) {
+                    throw new IllegalStateException(
+                        String.format("Can't compute the cache key for %s", absolute),
+                        ex
+                    );
+                }
+                return Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest());
+            }
+        );
+    }
+
+    /**
+     * New SHA-256 digest.
+     * @return The digest.
+     */
+    private static MessageDigest digest() {
+        final MessageDigest result;
+        try {
+            result = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+        return result;
+    }
+
+    /**
+     * Parse stored complaint messages.
+     * @param value Stored messages.
+     * @return Complaints.
+     */
+    private static Collection<Complaint> parse(final String value) {
+        final Collection<Complaint> result;
+        if (value.isEmpty()) {
+            result = Collections.emptyList();
+        } else {
+            result = Arrays.stream(ComplaintsCache.SPLIT.split(value))
+                .map(Complaint.ComplaintText::new)
+                .collect(Collectors.toList());
+        }
+        return result;
+    }
+}
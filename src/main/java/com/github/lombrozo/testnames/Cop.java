@@ -23,13 +23,22 @@
  */
 package com.github.lombrozo.testnames;
 
+import com.github.lombrozo.testnames.rules.ProductionClassesIndex;
 import com.github.lombrozo.testnames.rules.RuleAllTestsHaveProductionClass;
 import com.github.lombrozo.testnames.rules.RuleCorrectTestCases;
 import com.github.lombrozo.testnames.rules.RuleCorrectTestName;
 import com.github.lombrozo.testnames.rules.RuleInheritanceInTests;
 import com.github.lombrozo.testnames.rules.RuleOnlyTestMethods;
 import com.github.lombrozo.testnames.rules.RuleSuppressed;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -51,6 +60,11 @@ final class Cop {
      */
     private final Function<Suspect, Stream<Rule>> law;
 
+    /**
+     * The number of threads used for the inspection.
+     */
+    private final int threads;
+
     /**
      * Ctor.
      * @param project The project to check.
@@ -65,7 +79,17 @@ final class Cop {
      * @param parameters Parameters for rules.
      */
     Cop(final Project proj, final Parameters parameters) {
-        this(proj, Cop.regular(parameters));
+        this(proj, parameters, 1);
+    }
+
+    /**
+     * Ctor.
+     * @param proj The project to check.
+     * @param parameters Parameters for rules.
+     * @param threads The number of threads used for the inspection.
+     */
+    Cop(final Project proj, final Parameters parameters, final int threads) {
+        this(proj, Cop.regular(proj, parameters), threads);
     }
 
     /**
@@ -76,49 +100,181 @@ final class Cop {
     Cop(
         final Project project,
         final Function<Suspect, Stream<Rule>> law
+    ) {
+        this(project, law, 1);
+    }
+
+    /**
+     * Ctor.
+     * All the laws are applied to each suspect during a single pass over the project.
+     * @param project The project to check.
+     * @param laws The laws to check the project.
+     * @param threads The number of threads used for the inspection.
+     */
+    Cop(
+        final Project project,
+        final Collection<? extends Function<Suspect, Stream<Rule>>> laws,
+        final int threads
+    ) {
+        this(project, Cop.all(laws), threads);
+    }
+
+    /**
+     * Primary ctor.
+     * @param project The project to check.
+     * @param law The law to check the project.
+     * @param threads The number of threads used for the inspection.
+     */
+    Cop(
+        final Project project,
+        final Function<Suspect, Stream<Rule>> law,
+        final int threads
     ) {
         this.project = project;
         this.law = law;
+        this.threads = threads;
     }
 
     /**
      * Checks the project.
+     * Test classes are taken from the project one by one, so each of them can
+     * be released right after it is checked.
+     * The complaints are returned in the order of test classes regardless of
+     * the number of threads.
      * @return The complaints.
      */
     Collection<Complaint> inspection() {
-        return this.project.testClasses().stream()
-            .map(testClass -> new Suspect(this.project, testClass))
-            .flatMap(this.law)
+        final Collection<Complaint> result;
+        if (this.threads > 1) {
+            result = this.parallel();
+        } else {
+            try (Stream<TestClass> classes = this.project.testClassesStream()) {
+                result = classes
+                    .map(this::complaints)
+                    .flatMap(Collection::stream)
+                    .collect(Collectors.toList());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks the test classes of the project in parallel.
+     * At most two test classes per thread are in flight at the same time,
+     * so the memory footprint doesn't depend on the size of the project.
+     * @return The complaints.
+     */
+    private Collection<Complaint> parallel() {
+        final ExecutorService service = Executors.newFixedThreadPool(this.threads);
+        try (Stream<TestClass> classes = this.project.testClassesStream()) {
+            final int bound = this.threads * 2;
+            final Deque<Future<Collection<Complaint>>> window = new ArrayDeque<>(bound);
+            final Collection<Complaint> result = new ArrayList<>(0);
+            final Iterator<TestClass> all = classes.iterator();
+            while (all.hasNext()) {
+                final TestClass klass = all.next();
+                window.addLast(service.submit(() -> this.complaints(klass)));
+                if (window.size() >= bound) {
+                    result.addAll(window.removeFirst().get());
+                }
+            }
+            while (!window.isEmpty()) {
+                result.addAll(window.removeFirst().get());
+            }
+            return result;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The inspection was interrupted", ex);
+        } catch (final ExecutionException ex) {
+            throw new IllegalStateException("The inspection failed", ex.getCause());
+        } finally {
+            service.shutdownNow();
+        }
+    }
+
+    /**
+     * Checks a single test class.
+     * @param klass The test class to check.
+     * @return The complaints.
+     */
+    private Collection<Complaint> complaints(final TestClass klass) {
+        return this.law.apply(new Suspect(this.project, klass))
             .map(Rule::complaints)
             .flatMap(Collection::stream)
             .collect(Collectors.toList());
     }
 
+    /**
+     * All the laws together.
+     * @param laws The laws to combine.
+     * @return The law which applies all the laws to the same suspect.
+     */
+    static Function<Suspect, Stream<Rule>> all(
+        final Collection<? extends Function<Suspect, Stream<Rule>>> laws
+    ) {
+        return suspect -> laws.stream().flatMap(law -> law.apply(suspect));
+    }
+
     /**
      * Experimental law.
      * @return The experimental law which will be applied to projects that uses `experimental`
      *  features.
      */
     static Function<Suspect, Stream<Rule>> experimental() {
+        return Cop.experimental(new Metrics.Empty());
+    }
+
+    /**
+     * Experimental law that records metrics of rule evaluations.
+     * @param metrics Metrics of rule evaluations.
+     * @return The experimental law.
+     */
+    static Function<Suspect, Stream<Rule>> experimental(final Metrics metrics) {
         return suspect -> Stream.of(
-            new RuleSuppressed(new RuleOnlyTestMethods(suspect.test()), suspect.test())
+            new RuleSuppressed(new RuleOnlyTestMethods(suspect.test()), suspect.test(), metrics)
         );
     }
 
     /**
      * Regular law.
+     * The index of production classes is built once and shared by all suspects.
+     * @param project The project to check.
      * @param parameters Parameters for rules.
      * @return The regular law which will be applied to all projects.
      */
-    private static Function<Suspect, Stream<Rule>> regular(final Parameters parameters) {
+    static Function<Suspect, Stream<Rule>> regular(
+        final Project project,
+        final Parameters parameters
+    ) {
+        return Cop.regular(project, parameters, new Metrics.Empty());
+    }
+
+    /**
+     * Regular law that records metrics of rule evaluations.
+     * @param project The project to check.
+     * @param parameters Parameters for rules.
+     * @param metrics Metrics of rule evaluations.
+     * @return The regular law.
+     */
+    static Function<Suspect, Stream<Rule>> regular(
+        final Project project,
+        final Parameters parameters,
+        final Metrics metrics
+    ) {
+        final ProductionClassesIndex index = new ProductionClassesIndex(project);
         return suspect -> Stream.of(
             new RuleSuppressed(
-                new RuleAllTestsHaveProductionClass(suspect.project(), suspect.test()),
-                suspect.test()
+                new RuleAllTestsHaveProductionClass(index, suspect.test()),
+                suspect.test(),
+                metrics
             ),
-            new RuleSuppressed(new RuleCorrectTestName(suspect.test()), suspect.test()),
-            new RuleSuppressed(new RuleInheritanceInTests(suspect.test()), suspect.test()),
-            new RuleSuppressed(new RuleCorrectTestCases(suspect.test(), parameters), suspect.test())
+            new RuleSuppressed(new RuleCorrectTestName(suspect.test()), suspect.test(), metrics),
+            new RuleSuppressed(new RuleInheritanceInTests(suspect.test()), suspect.test(), metrics),
+            new RuleSuppressed(
+                new RuleCorrectTestCases(suspect.test(), parameters, metrics),
+                suspect.test(),
+                metrics
+            )
         );
     }
 }
@@ -0,0 +1,228 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+import java.io.IOException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Files of a directory tree with the given extension.
+ * Subdirectories are walked in parallel, each of them by a separate
+ * fork/join task of a pool owned by the walk, with at most the given number
+ * of threads, and file attributes are taken
+ * from the walk itself, so no extra file system calls are made for each entry.
+ * Symbolic links to files and directories are followed; a link to a
+ * directory that is already being walked above it is skipped.
+ * Files are returned in a stable order: files of a directory first, then
+ * files of its subdirectories.
+ *
+ * @since 1.4.0
+ */
+public final class FilesTree {
+
+    /**
+     * The root directory.
+     */
+    private final Path root;
+
+    /**
+     * The extension of files, for example ".java".
+     */
+    private final String extension;
+
+    /**
+     * The number of threads that walk the tree.
+     */
+    private final int threads;
+
+    /**
+     * Ctor.
+     * The tree is walked by as many threads as there are available processors.
+     * @param root The root directory.
+     * @param extension The extension of files.
+     */
+    public FilesTree(final Path root, final String extension) {
+        this(root, extension, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Ctor.
+     * @param root The root directory.
+     * @param extension The extension of files.
+     * @param threads The number of threads that walk the tree.
+     */
+    public FilesTree(final Path root, final String extension, final int threads) {
+        this.root = root;
+        this.extension = extension;
+        this.threads = Math.max(1, threads);
+    }
+
+    /**
+     * All the regular files with the extension.
+     * @return Files or an empty list if the root doesn't exist.
+     */
+    public List<Path> files() {
+        final List<Path> result;
+        if (Files.isDirectory(this.root)) {
+            final ForkJoinPool pool = new ForkJoinPool(this.threads);
+            try {
+                result = pool.invoke(
+                    new Directory(this.root, this.extension, Collections.emptySet())
+                );
+            } finally {
+                pool.shutdown();
+            }
+        } else {
+            result = Collections.emptyList();
+        }
+        return result;
+    }
+
+    /**
+     * Task that collects files of a single directory and forks tasks for
+     * its subdirectories.
+     *
+     * @since 1.4.0
+     */
+    private static final class Directory extends RecursiveTask<List<Path>> {
+
+        /**
+         * Serial version UID.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The directory.
+         */
+        private final transient Path dir;
+
+        /**
+         * The extension of files.
+         */
+        private final String extension;
+
+        /**
+         * Real paths of the directories above this one.
+         */
+        private final transient Set<Path> parents;
+
+        /**
+         * Ctor.
+         * @param dir The directory.
+         * @param extension The extension of files.
+         * @param parents Real paths of the directories above this one.
+         */
+        Directory(final Path dir, final String extension, final Set<Path> parents) {
+            super();
+            this.dir = dir;
+            this.extension = extension;
+            this.parents = parents;
+        }
+
+        @Override
+        protected List<Path> compute() {
+            final List<Path> files = new ArrayList<>(0);
+            final Path real = this.real();
+            if (!this.parents.contains(real)) {
+                final Set<Path> above = new HashSet<>(this.parents);
+                above.add(real);
+                final List<Directory> subdirs = this.walk(files, above);
+                Collections.sort(files);
+                subdirs.sort((first, second) -> first.dir.compareTo(second.dir));
+                ForkJoinTask.invokeAll(subdirs);
+                for (final Directory subdir : subdirs) {
+                    files.addAll(subdir.join());
+                }
+            }
+            return files;
+        }
+
+        /**
+         * Collect files of the directory and tasks for its subdirectories.
+         * @param files Where to put the files.
+         * @param above Real paths of this directory and the directories above.
+         * @return Tasks for the subdirectories.
+         */
+        private List<Directory> walk(final List<Path> files, final Set<Path> above) {
+            final List<Directory> subdirs = new ArrayList<>(0);
+            try {
+                Files.walkFileTree(
+                    this.dir,
+                    EnumSet.of(FileVisitOption.FOLLOW_LINKS),
+                    1,
+                    new SimpleFileVisitor<Path>() {
+                        @Override
+                        public FileVisitResult visitFile(
+                            final Path file,
+                            final BasicFileAttributes attrs
+                        ) {
+                            if (attrs.isDirectory()) {
+                                subdirs.add(new Directory(file, Directory.this.extension, above));
+                            } else if (attrs.isRegularFile()
+                                && file.toString().endsWith(Directory.this.extension)) {
+                                files.add(file);
+                            }
+                            return FileVisitResult.CONTINUE;
+                        }
+                    }
+                );
+            } catch (final IOException ex) {
+                throw new IllegalStateException(
+                    String.format("Can't walk directory %s", this.dir),
+                    ex
+                );
+            }
+            return subdirs;
+        }
+
+        /**
+         * The real path of the directory, with symbolic links resolved.
+         * @return Real path.
+         */
+        private Path real() {
+            try {
+                return this.dir.toRealPath();
+            } catch (final IOException ex) {
+                throw new IllegalStateException(
+                    String.format("Can't resolve directory %s", this.dir),
+                    ex
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+/**
+ * Metrics of the inspection.
+ *
+ * @since 1.4.0
+ */
+public interface Metrics {
+
+    /**
+     * Record a single evaluation of a rule.
+     * @param rule The rule name.
+     * @param nanos The time spent in the rule, in nanoseconds.
+     * @param complaints The number of complaints found by the rule.
+     */
+    void rule(String rule, long nanos, int complaints);
+
+    /**
+     * Record a phase of the inspection.
+     * @param phase The phase name.
+     * @param nanos The time spent in the phase, in nanoseconds.
+     */
+    void phase(String phase, long nanos);
+
+    /**
+     * Metrics that record nothing.
+     *
+     * @since 1.4.0
+     */
+    final class Empty implements Metrics {
+
+        @Override
+        public void rule(final String rule, final long nanos, final int complaints) {
+            // Nothing to record.
+        }
+
+        @Override
+        public void phase(final String phase, final long nanos) {
+            // Nothing to record.
+        }
+    }
+}
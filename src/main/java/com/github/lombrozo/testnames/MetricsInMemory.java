@@ -0,0 +1,250 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Metrics kept in memory.
+ * It is safe to record metrics from several threads.
+ *
+ * @since 1.4.0
+ */
+final class MetricsInMemory implements Metrics {
+
+    /**
+     * Statistics of rules by rule name.
+     */
+    private final Map<String, RuleStatistics> rules;
+
+    /**
+     * Phases in the order they were recorded.
+     */
+    private final Map<String, Long> phases;
+
+    /**
+     * Ctor.
+     */
+    MetricsInMemory() {
+        this.rules = new ConcurrentHashMap<>(0);
+        this.phases = Collections.synchronizedMap(new LinkedHashMap<>(0));
+    }
+
+    @Override
+    public void rule(final String rule, final long nanos, final int complaints) {
+        this.rules.computeIfAbsent(rule, name -> new RuleStatistics())
+            .add(nanos, complaints);
+    }
+
+    @Override
+    public void phase(final String phase, final long nanos) {
+        this.phases.merge(phase, nanos, Long::sum);
+    }
+
+    /**
+     * Human-readable summary.
+     * Rules are sorted by the total time, the slowest first.
+     * The time of a rule includes the time of the rules it delegates to.
+     * @return The summary table.
+     */
+    String summary() {
+        final StringBuilder table = new StringBuilder(0);
+        synchronized (this.phases) {
+            this.phases.forEach(
+                (phase, nanos) -> table.append(
+                    String.format(
+                        Locale.ROOT,
+                        "%-40s %10d ms%n",
+                        phase,
+                        MetricsInMemory.millis(nanos)
+                    )
+                )
+            );
+        }
+        table.append(
+            String.format(
+                Locale.ROOT,
+                "%-40s %10s %10s %10s %10s%n",
+                "Rule", "Calls", "Total ms", "Max ms", "Complaints"
+            )
+        );
+        this.sorted().forEach(
+            (rule, stats) -> table.append(
+                String.format(
+                    Locale.ROOT,
+                    "%-40s %10d %10d %10d %10d%n",
+                    rule,
+                    stats.calls.sum(),
+                    MetricsInMemory.millis(stats.total.sum()),
+                    MetricsInMemory.millis(stats.max.get()),
+                    stats.complaints.sum()
+                )
+            )
+        );
+        return table.toString();
+    }
+
+    /**
+     * Metrics as JSON.
+     * @return JSON document.
+     */
+    String json() {
+        final String phs;
+        synchronized (this.phases) {
+            phs = this.phases.entrySet().stream()
+                .map(
+                    entry -> String.format(
+                        Locale.ROOT,
+                        "\"%s\":{\"nanos\":%d}",
+                        entry.getKey(),
+                        entry.getValue()
+                    )
+                )
+                .collect(Collectors.joining(","));
+        }
+        final String rls = this.sorted().entrySet().stream()
+            .map(
+                entry -> String.format(
+                    Locale.ROOT,
+                    "\"%s\":{\"calls\":%d,\"totalNanos\":%d,\"maxNanos\":%d,\"complaints\":%d}",
+                    entry.getKey(),
+                    entry.getValue().calls.sum(),
+                    entry.getValue().total.sum(),
+                    entry.getValue().max.get(),
+                    entry.getValue().complaints.sum()
+                )
+            )
+            .collect(Collectors.joining(","));
+        return String.format("{\"phases\":{%s},\"rules\":{%s}}", phs, rls);
+    }
+
+    /**
+     * Save metrics as JSON.
+     * @param file The file to save to.
+     */
+    void save(final Path file) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Files.write(file, this.json().getBytes(StandardCharsets.UTF_8));
+        } catch (final IOException ex) {
+            throw new IllegalStateException(
+                String.format("Can't save metrics to %s", file),
+                ex
+            );
+        }
+    }
+
+    /**
+     * Rules sorted by the total time.
+     * @return Sorted rules.
+     */
+    private Map<String, RuleStatistics> sorted() {
+        return this.rules.entrySet().stream()
+            .sorted(
+                Comparator.comparingLong(
+                    (Map.Entry<String, RuleStatistics> entry) -> entry.getValue().total.sum()
+                ).reversed()
+            )
+            .collect(
+                Collectors.toMap(
+                    Map.Entry::getKey,
+                    Map.Entry::getValue,
+                    (first, second) -> first,
+                    LinkedHashMap::new
+                )
+            );
+    }
+
+    /**
+     * Convert nanoseconds to milliseconds.
+     * @param nanos Nanoseconds.
+     * @return Milliseconds.
+     */
+    private static long millis(final long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * Statistics of a single rule.
+     *
+     * @since 1.4.0
+     */
+    private static final class RuleStatistics {
+
+        /**
+         * The number of evaluations.
+         */
+        private final LongAdder calls;
+
+        /**
+         * The total time.
+         */
+        private final LongAdder total;
+
+        /**
+         * The maximum time of a single evaluation.
+         */
+        private final LongAccumulator max;
+
+        /**
+         * The number of complaints.
+         */
+        private final LongAdder complaints;
+
+        /**
+         * Ctor.
+         */
+        RuleStatistics() {
+            this.calls = new LongAdder();
+            this.total = new LongAdder();
+            this.max = new LongAccumulator(Long::max, 0L);
+            this.complaints = new LongAdder();
+        }
+
+        /**
+         * Add a single evaluation.
+         * @param nanos The time of the evaluation.
+         * @param found The number of complaints found.
+         */
+        void add(final long nanos, final int found) {
+            this.calls.increment();
+            this.total.add(nanos);
+            this.max.accumulate(nanos);
+            this.complaints.add(found);
+        }
+    }
+}
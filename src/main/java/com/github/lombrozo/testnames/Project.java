@@ -23,10 +23,19 @@
  */
 package com.github.lombrozo.testnames;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
 
 /**
  * Project.
@@ -47,6 +56,17 @@ public interface Project {
      */
     Collection<TestClass> testClasses();
 
+    /**
+     * All test classes one by one.
+     * Unlike {@link #testClasses()}, implementations might create test classes
+     * lazily, so a consumer can check and release them one at a time.
+     * The stream has to be closed after use.
+     * @return Stream of test classes.
+     */
+    default Stream<TestClass> testClassesStream() {
+        return this.testClasses().stream();
+    }
+
     /**
      * The fake project.
      *
@@ -163,6 +183,29 @@ public interface Project {
                 .flatMap(Collection::stream)
                 .collect(Collectors.toList());
         }
+
+        /**
+         * Test classes of all the projects one by one.
+         * The projects are opened lazily, one after another, instead of
+         * {@link Stream#flatMap}, which buffers whole inner streams on Java 8
+         * when the result is consumed through an iterator.
+         * @return Stream of test classes.
+         */
+        @Override
+        public Stream<TestClass> testClassesStream() {
+            final Chained<TestClass> chained = new Chained<>(
+                this.projects.stream()
+                    .<Supplier<Stream<TestClass>>>map(project -> project::testClassesStream)
+                    .iterator()
+            );
+            return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(
+                    chained,
+                    Spliterator.ORDERED | Spliterator.NONNULL
+                ),
+                false
+            ).onClose(chained::close);
+        }
     }
 
     /**
@@ -196,5 +239,66 @@ public interface Project {
         public Collection<TestClass> testClasses() {
             return Collections.emptyList();
         }
+
+        @Override
+        public Stream<TestClass> testClassesStream() {
+            return Stream.empty();
+        }
+    }
+
+    /**
+     * Project that computes its production classes only once.
+     * All the following calls return the same collection, so the file system
+     * is scanned only once. It is safe to use from several threads.
+     * Test classes are not cached, since they keep their parsed sources:
+     * both {@link #testClasses()} and {@link #testClassesStream()} go to the
+     * original project each time, so the test classes can be released right
+     * after they are checked.
+     *
+     * @since 1.4.0
+     */
+    final class Cached implements Project {
+
+        /**
+         * Production classes.
+         */
+        private final Unchecked<Collection<ProductionClass>> classes;
+
+        /**
+         * Original project.
+         */
+        private final Project original;
+
+        /**
+         * Constructor.
+         * @param original Original project.
+         */
+        public Cached(final Project original) {
+            this.original = original;
+            this.classes = new Unchecked<>(
+                new Synced<>(
+                    new Sticky<>(
+                        () -> Collections.unmodifiableList(
+                            new ArrayList<>(original.productionClasses())
+                        )
+                    )
+                )
+            );
+        }
+
+        @Override
+        public Collection<ProductionClass> productionClasses() {
+            return this.classes.value();
+        }
+
+        @Override
+        public Collection<TestClass> testClasses() {
+            return this.original.testClasses();
+        }
+
+        @Override
+        public Stream<TestClass> testClassesStream() {
+            return this.original.testClassesStream();
+        }
     }
 }
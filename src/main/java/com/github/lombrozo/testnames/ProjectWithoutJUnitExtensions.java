@@ -27,6 +27,7 @@ package com.github.lombrozo.testnames;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * The project without JUnit extensions.
@@ -62,6 +63,12 @@ final class ProjectWithoutJUnitExtensions implements Project {
         );
     }
 
+    @Override
+    public Stream<TestClass> testClassesStream() {
+        return this.original.testClassesStream()
+            .filter(ProjectWithoutJUnitExtensions::isNotJUnitExtension);
+    }
+
     /**
      * Is JUnit extension.
      * @param klass Test class.
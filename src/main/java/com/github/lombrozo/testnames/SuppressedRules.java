@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Names of suppressed rules.
+ * Build it once per test class or test case and reuse it for all the rules,
+ * so the names are not copied again for every rule.
+ *
+ * @since 1.4.0
+ */
+public final class SuppressedRules extends AbstractSet<String> {
+
+    /**
+     * The names of suppressed rules.
+     */
+    private final Set<String> names;
+
+    /**
+     * Ctor.
+     * @param names The names of suppressed rules.
+     */
+    public SuppressedRules(final Collection<String> names) {
+        super();
+        this.names = Collections.unmodifiableSet(new LinkedHashSet<>(names));
+    }
+
+    /**
+     * Suppressed rules of the collection.
+     * Returns the same object if the collection is already {@link SuppressedRules},
+     * so the names are not copied again.
+     * @param names The names of suppressed rules.
+     * @return Suppressed rules.
+     */
+    public static SuppressedRules of(final Collection<String> names) {
+        final SuppressedRules result;
+        if (names instanceof SuppressedRules) {
+            result = (SuppressedRules) names;
+        } else {
+            result = new SuppressedRules(names);
+        }
+        return result;
+    }
+
+    /**
+     * Is the rule suppressed.
+     * @param rule Simple name of the rule class.
+     * @return True if suppressed.
+     */
+    public boolean suppresses(final String rule) {
+        return this.names.contains(rule);
+    }
+
+    @Override
+    public boolean contains(final Object name) {
+        return this.names.contains(name);
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return this.names.iterator();
+    }
+
+    @Override
+    public int size() {
+        return this.names.size();
+    }
+}
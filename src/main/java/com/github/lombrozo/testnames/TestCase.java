@@ -27,6 +27,7 @@ package com.github.lombrozo.testnames;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.regex.Pattern;
 import lombok.Data;
 
 /**
@@ -61,6 +62,12 @@ public interface TestCase {
      */
     Collection<String> statements();
 
+    /**
+     * The number of mocks the test case creates or uses.
+     * @return The number of mocks.
+     */
+    long mocks();
+
     /**
      * The fake test case.
      *
@@ -75,6 +82,12 @@ public interface TestCase {
          */
         private static final String FAKE_NAME = "FakeCase";
 
+        /**
+         * Mockito mock pattern.
+         */
+        private static final Pattern MOCK_PATTERN =
+            Pattern.compile("^(mock\\(.*?\\);)|(Mockito\\.mock\\(.*?\\);)$");
+
         /**
          * The name of test.
          */
@@ -192,5 +205,12 @@ public interface TestCase {
         public Collection<String> statements() {
             return Collections.unmodifiableCollection(this.statements);
         }
+
+        @Override
+        public long mocks() {
+            return this.statements.stream()
+                .filter(statement -> Fake.MOCK_PATTERN.matcher(statement).find())
+                .count();
+        }
     }
 }
@@ -28,12 +28,15 @@ import com.github.lombrozo.testnames.bytecode.BytecodeProject;
 import com.github.lombrozo.testnames.complaints.ComplaintCompound;
 import com.github.lombrozo.testnames.javaparser.JavaParserProject;
 import java.io.File;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.maven.plugin.AbstractMojo;
@@ -115,6 +118,41 @@ public final class ValidateMojo extends AbstractMojo {
     @Parameter(defaultValue = "2")
     private int maxNumberOfMocks;
 
+    /**
+     * The number of threads used to inspect test classes.
+     * By default, it is equal to the number of available processors.
+     * Use 1 to inspect test classes sequentially.
+     */
+    @SuppressWarnings("PMD.ImmutableField")
+    @Parameter(property = "threads")
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Reuse complaints of unchanged test files from the previous build.
+     */
+    @SuppressWarnings("PMD.ImmutableField")
+    @Parameter(property = "incremental", defaultValue = "true")
+    private boolean incremental = true;
+
+    /**
+     * The file where complaints are cached between builds.
+     */
+    @Parameter(defaultValue = "${project.build.directory}/jtcop/cache.properties")
+    private File cache;
+
+    /**
+     * The file where metrics of the last run are saved.
+     */
+    @Parameter(defaultValue = "${project.build.directory}/jtcop/metrics.json")
+    private File metrics;
+
+    /**
+     * The version of the plugin.
+     * Cached complaints of other versions are ignored.
+     */
+    @Parameter(defaultValue = "${plugin.version}", readonly = true)
+    private String version;
+
     /**
      * Skip the validation.
      */
@@ -134,14 +172,47 @@ public final class ValidateMojo extends AbstractMojo {
 
     private void validate() throws MojoFailureException {
         this.getLog().info("Validating tests...");
-        final ProjectWithoutJUnitExtensions proj = new ProjectWithoutJUnitExtensions(
-            new Project.Combined(this.projects())
+        final MetricsInMemory recorded = new MetricsInMemory();
+        final Project proj = new Project.Cached(
+            new ProjectWithoutJUnitExtensions(new Project.Combined(this.projects(recorded)))
         );
-        final Collection<Complaint> complaints = new ArrayList<>(
-            new Cop(proj, new Parameters("maxNumberOfMocks", this.maxNumberOfMocks)).inspection()
+        long start = System.nanoTime();
+        proj.productionClasses();
+        recorded.phase("walk", System.nanoTime() - start);
+        final Collection<Function<Suspect, Stream<Rule>>> laws = new ArrayList<>(2);
+        laws.add(
+            Cop.regular(
+                proj,
+                new Parameters("maxNumberOfMocks", this.maxNumberOfMocks),
+                recorded
+            )
         );
         if (this.experimental) {
-            complaints.addAll(new Cop(proj, Cop.experimental()).inspection());
+            laws.add(Cop.experimental(recorded));
+        }
+        start = System.nanoTime();
+        final Collection<Complaint> complaints;
+        if (this.incremental) {
+            final ComplaintsCache stored = new ComplaintsCache(
+                this.cache.toPath(),
+                this.configuration(proj),
+                this.roots()
+            );
+            complaints = new Cop(
+                proj,
+                new CachedLaw(Cop.all(laws), stored),
+                this.threads
+            ).inspection();
+            stored.save();
+        } else {
+            complaints = new Cop(proj, laws, this.threads).inspection();
+        }
+        recorded.phase("inspect", System.nanoTime() - start);
+        if (this.getLog().isDebugEnabled()) {
+            this.getLog().debug(String.format("jtcop metrics:%n%s", recorded.summary()));
+        }
+        if (this.metrics != null) {
+            recorded.save(this.metrics.toPath());
         }
         if (!complaints.isEmpty() && this.failOnError) {
             throw new MojoFailureException(new ComplaintCompound(complaints).message());
@@ -153,19 +224,57 @@ public final class ValidateMojo extends AbstractMojo {
         }
     }
 
+    /**
+     * The configuration that affects complaints.
+     * Production class names are included, so adding or removing a production
+     * class invalidates all cached complaints.
+     * @param proj The project to validate
+     * @return The configuration as a string
+     */
+    private String configuration(final Project proj) {
+        return String.join(
+            "\n",
+            String.valueOf(this.version),
+            new TreeSet<>(this.suppressed()).toString(),
+            String.valueOf(this.maxNumberOfMocks),
+            String.valueOf(this.experimental),
+            String.valueOf(this.ignoreGeneratedTests),
+            proj.productionClasses().stream()
+                .map(ProductionClass::name)
+                .sorted()
+                .collect(Collectors.joining(","))
+        );
+    }
+
+    /**
+     * Source roots the symbol resolver can see.
+     * @return Source roots
+     */
+    private Collection<Path> roots() {
+        return Arrays.asList(
+            Paths.get(this.project.getCompileSourceRoots().get(0)),
+            Paths.get(this.project.getTestCompileSourceRoots().get(0)),
+            this.sources.toPath(),
+            this.tests.toPath()
+        );
+    }
+
     /**
      * All projects to validate.
+     * @param metrics Metrics of walking and parsing the test files
      * @return The projects
      */
-    private Collection<Project> projects() {
+    private Collection<Project> projects(final Metrics metrics) {
         final Set<String> suppressed = this.suppressed();
         return Stream.concat(
-            this.generated(suppressed),
+            this.generated(suppressed, metrics),
             Stream.of(
                 new JavaParserProject(
                     Paths.get(this.project.getCompileSourceRoots().get(0)),
                     Paths.get(this.project.getTestCompileSourceRoots().get(0)),
-                    suppressed
+                    suppressed,
+                    this.threads,
+                    metrics
                 )
             )
         ).collect(Collectors.toList());
@@ -186,15 +295,18 @@ public final class ValidateMojo extends AbstractMojo {
     /**
      * The generated projects.
      * @param suppressed The suppressed rules
+     * @param metrics Metrics of walking and parsing the test files
      * @return The generated projects
      */
-    private Stream<Project> generated(final Set<String> suppressed) {
+    private Stream<Project> generated(final Set<String> suppressed, final Metrics metrics) {
         return Stream.of(
             new BytecodeProject(this.sources, this.tests),
             new JavaParserProject(
                 this.sources.toPath(),
                 this.tests.toPath(),
-                suppressed
+                suppressed,
+                this.threads,
+                metrics
             )
         ).map(this::generated);
     }
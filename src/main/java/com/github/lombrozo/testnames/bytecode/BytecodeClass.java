@@ -23,17 +23,17 @@
  */
 package com.github.lombrozo.testnames.bytecode;
 
-import com.github.lombrozo.testnames.ProductionClass;
-import java.io.DataInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import javassist.ClassPool;
 import javassist.CtClass;
-import javassist.bytecode.ClassFile;
 
 /**
  * Utility class for parsing bytecode.
+ * The parsed class is detached from the pool as soon as its name and
+ * characteristics are read, so the pool doesn't keep it.
  *
  * @since 0.1.17
  */
@@ -45,19 +45,18 @@ final class BytecodeClass {
     private final Path path;
 
     /**
-     * Constructor.
-     * @param bytecode Path to class file.
+     * Class pool of the project.
      */
-    BytecodeClass(final Path bytecode) {
-        this.path = bytecode;
-    }
+    private final ClassPool pool;
 
     /**
-     * Check if file is class file.
-     * @return True if file is class file.
+     * Constructor.
+     * @param bytecode Path to class file.
+     * @param pool Class pool of the project.
      */
-    boolean isClass() {
-        return this.path.getFileName().toString().endsWith(".class");
+    BytecodeClass(final Path bytecode, final ClassPool pool) {
+        this.path = bytecode;
+        this.pool = pool;
     }
 
     /**
@@ -65,15 +64,16 @@ final class BytecodeClass {
      * @return Test class.
      */
     BytecodeTestClass toTest() {
-        return new BytecodeTestClass(this.path, this.parse());
-    }
-
-    /**
-     * Convert to production class.
-     * @return Production class.
-     */
-    ProductionClass toProductionClass() {
-        return new BytecodeProductionClass(this.parse());
+        final CtClass klass = this.parse();
+        try {
+            return new BytecodeTestClass(
+                this.path,
+                klass.getSimpleName(),
+                new BytecodeTestClassCharacteristics(klass)
+            );
+        } finally {
+            klass.detach();
+        }
     }
 
     /**
@@ -81,15 +81,8 @@ final class BytecodeClass {
      * @return Class.
      */
     private CtClass parse() {
-        try {
-            return ClassPool.getDefault()
-                .makeClass(
-                    new ClassFile(
-                        new DataInputStream(
-                            Files.newInputStream(this.path.toFile().toPath())
-                        )
-                    )
-                );
+        try (InputStream stream = Files.newInputStream(this.path)) {
+            return this.pool.makeClass(stream);
         } catch (final IOException ex) {
             throw new IllegalStateException(
                 String.format("Can't parse class %s", this.path),
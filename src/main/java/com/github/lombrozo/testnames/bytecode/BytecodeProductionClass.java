@@ -24,7 +24,6 @@
 package com.github.lombrozo.testnames.bytecode;
 
 import com.github.lombrozo.testnames.ProductionClass;
-import javassist.CtClass;
 
 /**
  * Bytecode production class.
@@ -34,20 +33,20 @@ import javassist.CtClass;
 final class BytecodeProductionClass implements ProductionClass {
 
     /**
-     * Class.
+     * Simple name of the class.
      */
-    private final CtClass klass;
+    private final String simple;
 
     /**
      * Constructor.
-     * @param klass Class.
+     * @param name Simple name of the class.
      */
-    BytecodeProductionClass(final CtClass klass) {
-        this.klass = klass;
+    BytecodeProductionClass(final String name) {
+        this.simple = name;
     }
 
     @Override
     public String name() {
-        return this.klass.getSimpleName();
+        return this.simple;
     }
 }
@@ -23,21 +23,25 @@
  */
 package com.github.lombrozo.testnames.bytecode;
 
+import com.github.lombrozo.testnames.FilesTree;
 import com.github.lombrozo.testnames.ProductionClass;
 import com.github.lombrozo.testnames.Project;
 import com.github.lombrozo.testnames.TestClass;
 import java.io.File;
-import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import javassist.ClassPool;
+import javassist.NotFoundException;
 
 /**
  * Bytecode project.
  * Implementation of {@link Project} interface.
+ * Each listing of test classes has its own class pool, so parsed classes are
+ * released right after the listing instead of piling up in the default pool.
+ * Production classes are not parsed at all: only the name is read from the
+ * header of each class file.
  *
  * @since 0.1.17
  */
@@ -77,42 +81,46 @@ public final class BytecodeProject implements Project {
 
     @Override
     public Collection<ProductionClass> productionClasses() {
-        final Collection<ProductionClass> res;
-        if (Files.exists(this.classes)) {
-            try (Stream<Path> stream = Files.walk(this.classes)) {
-                res = stream.map(BytecodeClass::new)
-                    .filter(BytecodeClass::isClass)
-                    .map(BytecodeClass::toProductionClass)
-                    .collect(Collectors.toList());
-            } catch (final IOException ex) {
-                throw new IllegalStateException(
-                    String.format("Can't read production classes from %s", this.classes),
-                    ex
-                );
-            }
-        } else {
-            res = Collections.emptyList();
-        }
-        return res;
+        return new FilesTree(this.classes, ".class").files()
+            .parallelStream()
+            .map(ClassFileHeader::new)
+            .map(ClassFileHeader::simpleName)
+            .<ProductionClass>map(BytecodeProductionClass::new)
+            .collect(Collectors.toList());
     }
 
     @Override
     public Collection<TestClass> testClasses() {
-        final Collection<TestClass> result;
-        if (Files.exists(this.tests)) {
-            try (Stream<Path> stream = Files.walk(this.tests)) {
-                result = stream.map(BytecodeClass::new)
-                    .filter(BytecodeClass::isClass)
-                    .map(BytecodeClass::toTest)
-                    .collect(Collectors.toList());
-            } catch (final IOException ex) {
-                throw new IllegalStateException(
-                    String.format("Can't read test classes from %s", this.tests),
-                    ex
-                );
+        final ClassPool pool = BytecodeProject.classPool(this.classes, this.tests);
+        return new FilesTree(this.tests, ".class").files()
+            .stream()
+            .map(path -> new BytecodeClass(path, pool))
+            .map(BytecodeClass::toTest)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Class pool for one listing of test classes.
+     * Besides the system class path, the pool knows about production and test
+     * classes, so parents and interfaces of test classes can be resolved
+     * regardless of the order in which the classes are parsed.
+     * @param classes Production classes path.
+     * @param tests Test classes path.
+     * @return Class pool.
+     */
+    private static ClassPool classPool(final Path classes, final Path tests) {
+        final ClassPool result = new ClassPool(true);
+        try {
+            for (final Path path : new Path[]{classes, tests}) {
+                if (Files.isDirectory(path)) {
+                    result.appendClassPath(path.toString());
+                }
             }
-        } else {
-            result = Collections.emptyList();
+        } catch (final NotFoundException ex) {
+            throw new IllegalStateException(
+                String.format("Can't create class pool for %s and %s", classes, tests),
+                ex
+            );
         }
         return result;
     }
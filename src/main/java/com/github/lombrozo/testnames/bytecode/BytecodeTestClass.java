@@ -29,7 +29,6 @@ import com.github.lombrozo.testnames.TestClassCharacteristics;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Collections;
-import javassist.CtClass;
 
 /**
  * Bytecode test class.
@@ -44,26 +43,34 @@ final class BytecodeTestClass implements TestClass {
     private final Path file;
 
     /**
-     * Pared class.
+     * Simple name of the test class.
      */
-    private final CtClass klass;
+    private final String simple;
+
+    /**
+     * Characteristics of the test class.
+     */
+    private final TestClassCharacteristics props;
 
     /**
      * Constructor.
      * @param path Path to the test class.
-     * @param clazz Pared class.
+     * @param name Simple name of the test class.
+     * @param characteristics Characteristics of the test class.
      */
     BytecodeTestClass(
         final Path path,
-        final CtClass clazz
+        final String name,
+        final TestClassCharacteristics characteristics
     ) {
         this.file = path;
-        this.klass = clazz;
+        this.simple = name;
+        this.props = characteristics;
     }
 
     @Override
     public String name() {
-        return this.klass.getSimpleName();
+        return this.simple;
     }
 
     @Override
@@ -83,6 +90,6 @@ final class BytecodeTestClass implements TestClass {
 
     @Override
     public TestClassCharacteristics characteristics() {
-        return new BytecodeTestClassCharacteristics(this.klass);
+        return this.props;
     }
 }
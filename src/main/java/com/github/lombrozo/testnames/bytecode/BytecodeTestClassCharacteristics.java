@@ -35,31 +35,88 @@ import org.junit.jupiter.params.ParameterizedTest;
 
 /**
  * Test class characteristics from bytecode.
+ * All the characteristics are read right in the constructor, so the parsed
+ * class can be detached from its class pool afterwards.
  *
  * @since 0.1.19
  */
 final class BytecodeTestClassCharacteristics implements TestClassCharacteristics {
 
     /**
-     * Parsed class.
+     * Is the test class a JUnit extension.
      */
-    private final CtClass klass;
+    private final boolean junit;
+
+    /**
+     * Is the test class an integration test.
+     */
+    private final boolean integration;
+
+    /**
+     * The number of tests in the class.
+     */
+    private final int tests;
+
+    /**
+     * The number of declared methods in the class.
+     */
+    private final int methods;
+
+    /**
+     * The parent class name.
+     */
+    private final String parent;
 
     /**
      * Constructor.
      * @param klass Parsed class.
      */
     BytecodeTestClassCharacteristics(final CtClass klass) {
-        this.klass = klass;
+        this.junit = BytecodeTestClassCharacteristics.isJUnitExtension(klass);
+        this.integration = BytecodeTestClassCharacteristics.isIntegrationTest(klass);
+        this.tests = (int) Arrays.stream(klass.getMethods())
+            .filter(BytecodeTestClassCharacteristics::isTest)
+            .count();
+        this.methods = klass.getDeclaredMethods().length;
+        this.parent = BytecodeTestClassCharacteristics.parent(klass);
     }
 
     @Override
     public boolean isJUnitExtension() {
+        return this.junit;
+    }
+
+    @Override
+    public boolean isIntegrationTest() {
+        return this.integration;
+    }
+
+    @Override
+    public int numberOfTests() {
+        return this.tests;
+    }
+
+    @Override
+    public int numberOfMethods() {
+        return this.methods;
+    }
+
+    @Override
+    public String parent() {
+        return this.parent;
+    }
+
+    /**
+     * Checks whether a class is a JUnit extension.
+     * @param klass Parsed class.
+     * @return True if one of the interfaces or the parent is a JUnit extension.
+     */
+    private static boolean isJUnitExtension(final CtClass klass) {
         try {
             return Stream
                 .concat(
-                    Arrays.stream(this.klass.getInterfaces()),
-                    Stream.of(this.klass.getSuperclass())
+                    Arrays.stream(klass.getInterfaces()),
+                    Stream.of(klass.getSuperclass())
                 )
                 .map(CtClass::getName)
                 .map(JUnitExtension::new)
@@ -68,40 +125,36 @@ final class BytecodeTestClassCharacteristics implements TestClassCharacteristics
             throw new IllegalStateException(
                 String.format(
                     "Can't get interfaces or parent of class %s",
-                    this.klass.getName()
+                    klass.getName()
                 ),
                 ex
             );
         }
     }
 
-    @Override
-    public boolean isIntegrationTest() {
-        final String pckg = this.klass.getPackageName();
-        return pckg.endsWith(".it") || "it".equals(pckg);
-    }
-
-    @Override
-    public int numberOfTests() {
-        return (int) Arrays.stream(this.klass.getMethods())
-            .filter(BytecodeTestClassCharacteristics::isTest)
-            .count();
-    }
-
-    @Override
-    public int numberOfMethods() {
-        return this.klass.getDeclaredMethods().length;
+    /**
+     * Checks whether a class is an integration test.
+     * @param klass Parsed class.
+     * @return True if the class is in the "it" package.
+     */
+    private static boolean isIntegrationTest(final CtClass klass) {
+        final String pckg = klass.getPackageName();
+        return pckg != null && (pckg.endsWith(".it") || "it".equals(pckg));
     }
 
-    @Override
-    public String parent() {
+    /**
+     * The parent class name.
+     * @param klass Parsed class.
+     * @return The parent class name.
+     */
+    private static String parent(final CtClass klass) {
         try {
-            return this.klass.getSuperclass().getName();
+            return klass.getSuperclass().getName();
         } catch (final NotFoundException exception) {
             throw new IllegalStateException(
                 String.format(
                     "Can't get parent of class %s",
-                    this.klass.getName()
+                    klass.getName()
                 ),
                 exception
             );
@@ -118,4 +171,3 @@ final class BytecodeTestClassCharacteristics implements TestClassCharacteristics
             || method.hasAnnotation(ParameterizedTest.class);
     }
 }
-
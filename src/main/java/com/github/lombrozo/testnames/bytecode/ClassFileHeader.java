@@ -0,0 +1,163 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.bytecode;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Header of a class file.
+ * Reads the class file only up to the {@code this_class} entry, which is
+ * enough to know the name of the class, without building the whole class
+ * model.
+ * See <a href="https://docs.oracle.com/javase/specs/jvms/se17/html/jvms-4.html">
+ * the class file format</a>.
+ *
+ * @since 1.4.0
+ */
+final class ClassFileHeader {
+
+    /**
+     * Magic number of class files.
+     */
+    private static final int MAGIC = 0xCAFEBABE;
+
+    /**
+     * Path to class file.
+     */
+    private final Path path;
+
+    /**
+     * Constructor.
+     * @param bytecode Path to class file.
+     */
+    ClassFileHeader(final Path bytecode) {
+        this.path = bytecode;
+    }
+
+    /**
+     * Simple name of the class.
+     * Like in javassist, the name of a nested class keeps the name of the
+     * outer class, for example {@code Outer$Inner}.
+     * @return Simple name.
+     */
+    String simpleName() {
+        final String name = this.name();
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+
+    /**
+     * Fully qualified name of the class.
+     * @return Class name.
+     */
+    String name() {
+        try (DataInputStream input = new DataInputStream(
+            new BufferedInputStream(Files.newInputStream(this.path))
+        )) {
+            if (input.readInt() != ClassFileHeader.MAGIC) {
+                throw new IllegalStateException(
+                    String.format("File %s is not a class file", this.path)
+                );
+            }
+            input.readUnsignedShort();
+            input.readUnsignedShort();
+            final int count = input.readUnsignedShort();
+            final String[] utf = new String[count];
+            final int[] classes = new int[count];
+            int idx = 1;
+            while (idx < count) {
+                idx += ClassFileHeader.entry(input, utf, classes, idx);
+            }
+            input.readUnsignedShort();
+            return utf[classes[input.readUnsignedShort()]].replace('/', '.');
+        } catch (final IOException ex) {
+            throw new IllegalStateException(
+                String.format("Can't read header of class %s", this.path),
+                ex
+            );
+        }
+    }
+
+    /**
+     * Read a single constant pool entry.
+     * Only UTF-8 and class entries are kept, all the others are skipped.
+     * @param input Class file.
+     * @param utf UTF-8 entries by index.
+     * @param classes Class entries by index, the value is the index of the name.
+     * @param idx Index of the entry.
+     * @return The number of pool slots the entry takes.
+     * @throws IOException If the file can't be read.
+     * @checkstyle CyclomaticComplexityCheck (50 lines)
+     */
+    @SuppressWarnings("PMD.CyclomaticComplexity")
+    private static int entry(
+        final DataInputStream input,
+        final String[] utf,
+        final int[] classes,
+        final int idx
+    ) throws IOException {
+        final int tag = input.readUnsignedByte();
+        int slots = 1;
+        switch (tag) {
+            case 1:
+                utf[idx] = input.readUTF();
+                break;
+            case 7:
+                classes[idx] = input.readUnsignedShort();
+                break;
+            case 8:
+            case 16:
+            case 19:
+            case 20:
+                input.skipBytes(2);
+                break;
+            case 15:
+                input.skipBytes(3);
+                break;
+            case 3:
+            case 4:
+            case 9:
+            case 10:
+            case 11:
+            case 12:
+            case 17:
+            case 18:
+                input.skipBytes(4);
+                break;
+            case 5:
+            case 6:
+                input.skipBytes(8);
+                slots = 2;
+                break;
+            default:
+                throw new IllegalStateException(
+                    String.format("Unknown constant pool tag %d", tag)
+                );
+        }
+        return slots;
+    }
+}
@@ -25,6 +25,7 @@ package com.github.lombrozo.testnames.complaints;
 
 import com.github.lombrozo.testnames.Complaint;
 import com.github.lombrozo.testnames.TestClass;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -33,15 +34,22 @@ import lombok.ToString;
 
 /**
  * Compound complaint for entire class.
+ * The complaint keeps only the name and the path of the class, so the parsed
+ * class can be released right after the inspection.
  * @since 0.2
  */
 @ToString
 public final class ComplaintClass implements Complaint {
 
     /**
-     * Class.
+     * Class name.
      */
-    private final TestClass clazz;
+    private final String name;
+
+    /**
+     * Path to the class.
+     */
+    private final Path path;
 
     /**
      * All class complaints.
@@ -69,7 +77,8 @@ public final class ComplaintClass implements Complaint {
         final TestClass clazz,
         final Collection<? extends Complaint> complaints
     ) {
-        this.clazz = clazz;
+        this.name = clazz.name();
+        this.path = clazz.path();
         this.complaints = complaints;
     }
 
@@ -78,8 +87,8 @@ public final class ComplaintClass implements Complaint {
         final AtomicInteger counter = new AtomicInteger(1);
         return String.format(
             "The test class %s (%s:) has encountered some problems. Please review the results for more information.%s",
-            this.clazz.name(),
-            this.clazz.path(),
+            this.name,
+            this.path,
             this.complaints.stream()
                 .map(Complaint::message)
                 .map(message -> String.format("\n\t%d) %s", counter.getAndIncrement(), message))
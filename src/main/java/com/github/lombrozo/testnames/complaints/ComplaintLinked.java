@@ -24,8 +24,6 @@
 package com.github.lombrozo.testnames.complaints;
 
 import com.github.lombrozo.testnames.Complaint;
-import java.net.MalformedURLException;
-import java.net.URL;
 import lombok.ToString;
 
 /**
@@ -52,9 +50,9 @@ public final class ComplaintLinked implements Complaint {
     private final String rule;
 
     /**
-     * The link to the rule description.
+     * The document name of the rule description.
      */
-    private final URL link;
+    private final String document;
 
     /**
      * Constructor.
@@ -70,7 +68,7 @@ public final class ComplaintLinked implements Complaint {
         final Class<?> rule,
         final String document
     ) {
-        this(complaint, suggestion, rule.getSimpleName(), ComplaintLinked.url(document));
+        this(complaint, suggestion, rule.getSimpleName(), document);
     }
 
     /**
@@ -78,56 +76,32 @@ public final class ComplaintLinked implements Complaint {
      * @param complaint The complaint message.
      * @param suggestion The suggestion how to solve the problem
      * @param rule The rule name
-     * @param link The link to the rule description
+     * @param document The document name of the rule description
      * @checkstyle ParameterNumberCheck (10 lines)
      */
     private ComplaintLinked(
         final String complaint,
         final String suggestion,
         final String rule,
-        final URL link
+        final String document
     ) {
         this.complaint = complaint;
         this.suggestion = suggestion;
         this.rule = rule;
-        this.link = link;
+        this.document = document;
     }
 
     @Override
     public String message() {
         return new ComplaintText(
             String.format(
-                "%s.%n\t%s.%n\tYou can also ignore the rule by adding @SuppressWarnings(\"JTCOP.%s\") annotation.%n\tRule: %s.%n\tYou can read more about the rule here: %s",
+                "%s.%n\t%s.%n\tYou can also ignore the rule by adding @SuppressWarnings(\"JTCOP.%s\") annotation.%n\tRule: %s.%n\tYou can read more about the rule here: https://github.com/volodya-lombrozo/jtcop/blob/main/docs/rules/%s",
                 this.complaint,
                 this.suggestion,
                 this.rule,
                 this.rule,
-                this.link
+                this.document
             )
         ).message();
     }
-
-    /**
-     * Parses URL from String.
-     * @param document String representation of the doc markdown file in the repo.
-     * @return URL link
-     */
-    private static URL url(final String document) {
-        try {
-            return new URL(
-                String.format(
-                    "https://github.com/volodya-lombrozo/jtcop/blob/main/docs/rules/%s",
-                    document
-                )
-            );
-        } catch (final MalformedURLException ex) {
-            throw new IllegalStateException(
-                String.format(
-                    "We have  problems with parsing rule documentation link %s",
-                    document
-                ),
-                ex
-            );
-        }
-    }
 }
@@ -36,9 +36,10 @@ import lombok.ToString;
 public final class ComplaintWrongTestName implements Complaint {
 
     /**
-     * The test case.
+     * The test case name.
+     * Only the name is kept, so the parsed test case can be released.
      */
-    private final TestCase test;
+    private final String test;
 
     /**
      * The complaint message.
@@ -54,7 +55,7 @@ public final class ComplaintWrongTestName implements Complaint {
         final TestCase tcase,
         final String expl
     ) {
-        this.test = tcase;
+        this.test = tcase.name();
         this.explanation = expl;
     }
 
@@ -62,7 +63,7 @@ public final class ComplaintWrongTestName implements Complaint {
     public String message() {
         return String.format(
             "Test name '%s' doesn't follow naming rules, because %s",
-            this.test.name(),
+            this.test,
             this.explanation
         );
     }
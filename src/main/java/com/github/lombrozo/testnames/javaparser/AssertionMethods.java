@@ -0,0 +1,137 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+import org.junit.jupiter.api.Assertions;
+
+/**
+ * Table of assertion methods.
+ * The key is the method name, the value is the minimum number of arguments.
+ * The table is computed lazily and only once, so the same table can be shared
+ * between all the parsed method calls.
+ *
+ * @since 1.4.0
+ */
+final class AssertionMethods {
+
+    /**
+     * JUnit 5 assertions.
+     */
+    static final AssertionMethods JUNIT = new AssertionMethods(Assertions.class);
+
+    /**
+     * The methods.
+     */
+    private final Unchecked<Map<String, Integer>> methods;
+
+    /**
+     * Ctor.
+     * Takes all public static methods of the classes, for example
+     * {@code org.junit.Assert} for JUnit 4 or {@code org.assertj.core.api.Assertions}
+     * for AssertJ.
+     *
+     * @param holders Classes with static assertion methods.
+     */
+    AssertionMethods(final Class<?>... holders) {
+        this(() -> AssertionMethods.reflected(holders));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param methods The method names with the minimum number of arguments.
+     */
+    AssertionMethods(final Map<String, Integer> methods) {
+        this(() -> Collections.unmodifiableMap(methods));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param methods The methods.
+     */
+    private AssertionMethods(final Scalar<Map<String, Integer>> methods) {
+        this.methods = new Unchecked<>(new Synced<>(new Sticky<>(methods)));
+    }
+
+    /**
+     * Is the method an assertion?
+     *
+     * @param name The method name.
+     * @return True if the method is an assertion.
+     */
+    boolean contains(final String name) {
+        return this.methods.value().containsKey(name);
+    }
+
+    /**
+     * The minimum number of arguments of the assertion.
+     *
+     * @param name The method name.
+     * @return The minimum number of arguments, if the method is an assertion.
+     */
+    Optional<Integer> minimum(final String name) {
+        return Optional.ofNullable(this.methods.value().get(name));
+    }
+
+    /**
+     * Public static methods of the classes.
+     *
+     * @param holders The classes.
+     * @return The method names with the minimum number of arguments.
+     */
+    private static Map<String, Integer> reflected(final Class<?>... holders) {
+        return Collections.unmodifiableMap(
+            Arrays.stream(holders)
+                .map(Class::getMethods)
+                .flatMap(Arrays::stream)
+                .filter(AssertionMethods::isAssertion)
+                .collect(
+                    Collectors.toMap(Method::getName, Method::getParameterCount, Math::min)
+                )
+        );
+    }
+
+    /**
+     * Is public static method.
+     *
+     * @param method The method.
+     * @return True if public static method.
+     */
+    private static boolean isAssertion(final Method method) {
+        final int modifiers = method.getModifiers();
+        return Modifier.isPublic(modifiers) && Modifier.isStatic(modifiers);
+    }
+}
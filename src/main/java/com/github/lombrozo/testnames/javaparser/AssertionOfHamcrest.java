@@ -40,6 +40,11 @@ import java.util.stream.Collectors;
  */
 public final class AssertionOfHamcrest implements ParsedAssertion {
 
+    /**
+     * Hamcrest assertions.
+     */
+    private static final Set<String> ASSERTIONS = Collections.singleton("assertThat");
+
     /**
      * The method call.
      */
@@ -57,7 +62,7 @@ public final class AssertionOfHamcrest implements ParsedAssertion {
      */
     AssertionOfHamcrest(final MethodCallExpr call) {
         this.method = call;
-        this.allowed = Collections.singleton("assertThat");
+        this.allowed = AssertionOfHamcrest.ASSERTIONS;
     }
 
     @Override
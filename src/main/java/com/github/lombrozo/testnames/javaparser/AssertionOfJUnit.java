@@ -26,15 +26,10 @@ package com.github.lombrozo.testnames.javaparser;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.expr.Expression;
 import com.github.javaparser.ast.expr.MethodCallExpr;
-import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
 import java.util.Arrays;
 import java.util.Locale;
-import java.util.Map;
 import java.util.Optional;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
-import org.junit.jupiter.api.Assertions;
 
 /**
  * Assertion of JUnit.
@@ -60,9 +55,8 @@ final class AssertionOfJUnit implements ParsedAssertion {
 
     /**
      * The allowed methods.
-     * The key is the method name, the value is the minimum number of arguments.
      */
-    private final Map<String, Integer> allowed;
+    private final AssertionMethods allowed;
 
     /**
      * Constructor.
@@ -70,7 +64,7 @@ final class AssertionOfJUnit implements ParsedAssertion {
      * @param method The method call.
      */
     AssertionOfJUnit(final MethodCallExpr method) {
-        this(method, AssertionOfJUnit.allowedJUnitNames());
+        this(method, AssertionMethods.JUNIT);
     }
 
     /**
@@ -79,14 +73,14 @@ final class AssertionOfJUnit implements ParsedAssertion {
      * @param method The method call.
      * @param methods The allowed methods.
      */
-    private AssertionOfJUnit(final MethodCallExpr method, final Map<String, Integer> methods) {
+    AssertionOfJUnit(final MethodCallExpr method, final AssertionMethods methods) {
         this.call = method;
         this.allowed = methods;
     }
 
     @Override
     public boolean isAssertion() {
-        return this.allowed.containsKey(this.call.getName().toString());
+        return this.allowed.contains(this.call.getNameAsString());
     }
 
     @Override
@@ -94,10 +88,10 @@ final class AssertionOfJUnit implements ParsedAssertion {
         final Optional<String> result;
         final NodeList<Expression> args = this.call.getArguments();
         final Optional<Expression> last = args.getLast();
-        final Integer min = this.allowed.get(this.call.getName().toString());
-        if (Arrays.asList(AssertionOfJUnit.SPECIAL).contains(this.call.getName().toString())) {
+        final Optional<Integer> min = this.allowed.minimum(this.call.getNameAsString());
+        if (Arrays.asList(AssertionOfJUnit.SPECIAL).contains(this.call.getNameAsString())) {
             result = new UnknownMessage().message();
-        } else if (min < args.size() && last.isPresent()) {
+        } else if (min.isPresent() && min.get() < args.size() && last.isPresent()) {
             result = new StingExpression(last.get()).asString();
         } else {
             result = Optional.empty();
@@ -128,26 +122,4 @@ final class AssertionOfJUnit implements ParsedAssertion {
             .anyMatch(arg -> cut.equals(arg.toString()));
     }
 
-    /**
-     * The allowed methods.
-     *
-     * @return The allowed JUnit methods.
-     */
-    private static Map<String, Integer> allowedJUnitNames() {
-        return Arrays.stream(Assertions.class.getMethods())
-            .filter(AssertionOfJUnit::isAssertion)
-            .collect(Collectors.toMap(Method::getName, Method::getParameterCount, Math::min));
-    }
-
-    /**
-     * Is JUnit assertion.
-     *
-     * @param method The method.
-     * @return True if JUnit assertion.
-     */
-    private static boolean isAssertion(final Method method) {
-        final int modifiers = method.getModifiers();
-        return Modifier.isPublic(modifiers) && Modifier.isStatic(modifiers);
-    }
-
 }
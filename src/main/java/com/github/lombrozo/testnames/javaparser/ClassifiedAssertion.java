@@ -0,0 +1,84 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import com.github.lombrozo.testnames.Assertion;
+import java.util.Optional;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Assertion classified once.
+ * Keeps the framework view that recognized a method call as an assertion, so
+ * rules can ask for it many times without walking the AST again.
+ * The explanation and the line hitter flag are computed on the first request,
+ * since they might require symbol resolution or printing of the arguments,
+ * and the source code is printed only when it is needed for a complaint.
+ *
+ * @since 1.4.0
+ */
+final class ClassifiedAssertion implements Assertion {
+
+    /**
+     * The explanation taken from the framework view.
+     */
+    private final Unchecked<Optional<String>> explained;
+
+    /**
+     * Is line hitter, taken from the whole assertion.
+     */
+    private final Unchecked<Boolean> hitter;
+
+    /**
+     * The whole assertion, with all the framework views.
+     */
+    private final ParsedAssertion source;
+
+    /**
+     * Ctor.
+     * @param view The framework view that recognized the assertion.
+     * @param source The whole assertion, with all the framework views.
+     */
+    ClassifiedAssertion(final ParsedAssertion view, final ParsedAssertion source) {
+        this.explained = new Unchecked<>(new Synced<>(new Sticky<>(view::explanation)));
+        this.hitter = new Unchecked<>(new Synced<>(new Sticky<>(source::isLineHitter)));
+        this.source = source;
+    }
+
+    @Override
+    public Optional<String> explanation() {
+        return this.explained.value();
+    }
+
+    @Override
+    public boolean isLineHitter() {
+        return this.hitter.value();
+    }
+
+    @Override
+    public String toString() {
+        return this.source.toString();
+    }
+}
@@ -24,6 +24,7 @@
 package com.github.lombrozo.testnames.javaparser;
 
 import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.lombrozo.testnames.Assertion;
 import java.util.Optional;
 
 /**
@@ -38,23 +39,63 @@ public final class JavaParserAssertion implements ParsedAssertion {
      */
     private final MethodCallExpr call;
 
+    /**
+     * JUnit view of the method call.
+     */
+    private final ParsedAssertion junit;
+
+    /**
+     * Hamcrest view of the method call.
+     */
+    private final ParsedAssertion hamcrest;
+
     /**
      * Ctor.
      * @param method The method call.
      */
     JavaParserAssertion(final MethodCallExpr method) {
+        this(method, new AssertionOfJUnit(method), new AssertionOfHamcrest(method));
+    }
+
+    /**
+     * Ctor.
+     * @param method The method call.
+     * @param junit JUnit view of the method call.
+     * @param hamcrest Hamcrest view of the method call.
+     */
+    private JavaParserAssertion(
+        final MethodCallExpr method,
+        final ParsedAssertion junit,
+        final ParsedAssertion hamcrest
+    ) {
         this.call = method;
+        this.junit = junit;
+        this.hamcrest = hamcrest;
+    }
+
+    /**
+     * Classify the method call once.
+     * @return The classified assertion or empty if the call is not an assertion.
+     */
+    Optional<Assertion> classified() {
+        final Optional<Assertion> result;
+        if (this.junit.isAssertion()) {
+            result = Optional.of(new ClassifiedAssertion(this.junit, this));
+        } else if (this.hamcrest.isAssertion()) {
+            result = Optional.of(new ClassifiedAssertion(this.hamcrest, this));
+        } else {
+            result = Optional.empty();
+        }
+        return result;
     }
 
     @Override
     public Optional<String> explanation() {
         final Optional<String> result;
-        final ParsedAssertion junit = new AssertionOfJUnit(this.call);
-        final ParsedAssertion hamcrest = new AssertionOfHamcrest(this.call);
-        if (junit.isAssertion()) {
-            result = junit.explanation();
-        } else if (hamcrest.isAssertion()) {
-            result = hamcrest.explanation();
+        if (this.junit.isAssertion()) {
+            result = this.junit.explanation();
+        } else if (this.hamcrest.isAssertion()) {
+            result = this.hamcrest.explanation();
         } else {
             result = Optional.empty();
         }
@@ -63,14 +104,12 @@ public final class JavaParserAssertion implements ParsedAssertion {
 
     @Override
     public boolean isLineHitter() {
-        return new AssertionOfJUnit(this.call).isLineHitter()
-            || new AssertionOfHamcrest(this.call).isLineHitter();
+        return this.junit.isLineHitter() || this.hamcrest.isLineHitter();
     }
 
     @Override
     public boolean isAssertion() {
-        return new AssertionOfJUnit(this.call).isAssertion()
-            || new AssertionOfHamcrest(this.call).isAssertion();
+        return this.junit.isAssertion() || this.hamcrest.isAssertion();
     }
 
     @Override
@@ -23,8 +23,10 @@
  */
 package com.github.lombrozo.testnames.javaparser;
 
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParseProblemException;
+import com.github.javaparser.ParseResult;
 import com.github.javaparser.ParserConfiguration;
-import com.github.javaparser.StaticJavaParser;
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.ImportDeclaration;
 import com.github.javaparser.ast.Node;
@@ -337,11 +339,8 @@ final class JavaParserClass {
      * @return Compilation unit.
      */
     private static CompilationUnit parse(final Path path, final SymbolResolver resolver) {
-        try {
-            StaticJavaParser.getParserConfiguration()
-                .setSymbolResolver(resolver)
-                .setLanguageLevel(ParserConfiguration.LanguageLevel.JAVA_17);
-            return JavaParserClass.parse(Files.newInputStream(path), resolver);
+        try (InputStream stream = Files.newInputStream(path)) {
+            return JavaParserClass.parse(stream, resolver);
         } catch (final IOException ex) {
             throw new IllegalStateException(
                 String.format("Can't parse java file: %s", path.toAbsolutePath()),
@@ -352,15 +351,21 @@ final class JavaParserClass {
 
     /**
      * Parse java by input stream.
+     * Each call uses its own parser and configuration, so parsing doesn't touch
+     * any global state and can be safely run from several threads.
      *
      * @param stream Input stream.
      * @param resolver Symbol resolver.
      * @return Compilation unit.
      */
     private static CompilationUnit parse(final InputStream stream, final SymbolResolver resolver) {
-        StaticJavaParser.getParserConfiguration()
-            .setSymbolResolver(resolver)
-            .setLanguageLevel(ParserConfiguration.LanguageLevel.JAVA_17);
-        return StaticJavaParser.parse(stream);
+        final ParseResult<CompilationUnit> result = new JavaParser(
+            new ParserConfiguration()
+                .setSymbolResolver(resolver)
+                .setLanguageLevel(ParserConfiguration.LanguageLevel.JAVA_17)
+        ).parse(stream);
+        return result.getResult()
+            .filter(unit -> result.isSuccessful())
+            .orElseThrow(() -> new ParseProblemException(result.getProblems()));
     }
 }
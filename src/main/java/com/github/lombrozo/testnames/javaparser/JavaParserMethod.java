@@ -28,9 +28,13 @@ import com.github.javaparser.ast.body.MethodDeclaration;
 import com.github.javaparser.ast.expr.Expression;
 import com.github.javaparser.ast.expr.MethodCallExpr;
 import com.github.javaparser.ast.stmt.BlockStmt;
-import com.github.javaparser.ast.stmt.Statement;
+import com.github.javaparser.ast.stmt.ExpressionStmt;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
 import java.util.stream.Stream;
-import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
 /**
@@ -40,7 +44,6 @@ import lombok.ToString;
  * @since 0.1.15
  */
 @ToString
-@EqualsAndHashCode
 final class JavaParserMethod {
 
     /**
@@ -64,6 +67,45 @@ final class JavaParserMethod {
         return this.method.getNameAsString();
     }
 
+    /**
+     * Two methods are equal if they have the same name and the same position
+     * in the source code.
+     * It is much cheaper than comparing the whole syntax trees.
+     * Methods without a position, like synthetic ones, are equal only to
+     * themselves.
+     * @param other Other object.
+     * @return True if equal.
+     */
+    @Override
+    public boolean equals(final Object other) {
+        final boolean result;
+        if (this == other) {
+            result = true;
+        } else if (other instanceof JavaParserMethod) {
+            final MethodDeclaration that = ((JavaParserMethod) other).method;
+            if (this.method.getRange().isPresent()) {
+                result = this.method.getNameAsString().equals(that.getNameAsString())
+                    && this.method.getRange().equals(that.getRange());
+            } else {
+                result = this.method == that;
+            }
+        } else {
+            result = false;
+        }
+        return result;
+    }
+
+    @Override
+    public int hashCode() {
+        final int result;
+        if (this.method.getRange().isPresent()) {
+            result = Objects.hash(this.method.getNameAsString(), this.method.getRange());
+        } else {
+            result = System.identityHashCode(this.method);
+        }
+        return result;
+    }
+
     /**
      * Get method declaration.
      * @return Method declaration.
@@ -77,39 +119,37 @@ final class JavaParserMethod {
      * @return Method statements.
      */
     Stream<MethodCallExpr> statements() {
-        return JavaParserMethod.flatStatements(this.body().getStatements().stream())
-            .filter(Statement::isExpressionStmt)
-            .map(JavaParserMethod::toExpression)
-            .filter(Expression::isMethodCallExpr)
-            .map(MethodCallExpr.class::cast);
+        return JavaParserMethod.calls(this.body()).stream();
     }
 
     /**
+     * Collect method call statements in one pass.
      * This method unrolls inner method statements.
      * In other words, if a statement is a type of block that contains inner statements,
-     * we simply unroll all these statements and return them as a flat stream.
-     * @param stmts Statements to unroll.
-     * @return Stream of statements.
+     * we simply unroll all these statements in the order they appear in the source.
+     * The traversal uses an explicit stack, so large generated methods
+     * don't overflow the call stack.
+     * @param root Node to collect statements from.
+     * @return List of method calls.
      */
-    @SuppressWarnings("PMD.CognitiveComplexity")
-    private static Stream<Statement> flatStatements(final Stream<? extends Statement> stmts) {
-        return stmts.flatMap(JavaParserMethod::statements);
-    }
-
-    /**
-     * Extract statements from node.
-     * @param node Node to extract statements from.
-     * @return List of statements.
-     */
-    private static Stream<Statement> statements(final Node node) {
-        return Stream.concat(
-            Stream.of(node)
-                .filter(Statement.class::isInstance)
-                .map(Statement.class::cast),
-            node.getChildNodes()
-                .stream()
-                .flatMap(JavaParserMethod::statements)
-        );
+    private static List<MethodCallExpr> calls(final Node root) {
+        final List<MethodCallExpr> result = new ArrayList<>(0);
+        final Deque<Node> stack = new ArrayDeque<>(0);
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            final Node node = stack.pop();
+            if (node instanceof ExpressionStmt) {
+                final Expression expression = ((ExpressionStmt) node).getExpression();
+                if (expression.isMethodCallExpr()) {
+                    result.add(expression.asMethodCallExpr());
+                }
+            }
+            final List<Node> children = node.getChildNodes();
+            for (int idx = children.size() - 1; idx >= 0; --idx) {
+                stack.push(children.get(idx));
+            }
+        }
+        return result;
     }
 
     /**
@@ -126,15 +166,4 @@ final class JavaParserMethod {
             )
         );
     }
-
-    /**
-     * Convert statement to expression.
-     * @param statement Statement
-     * @return Expression
-     */
-    private static Expression toExpression(final Statement statement) {
-        return statement.toExpressionStmt().orElseThrow(
-            () -> new IllegalStateException("Statement is not expression")
-        ).getExpression();
-    }
 }
@@ -30,18 +30,25 @@ import com.github.javaparser.symbolsolver.resolution.typesolvers.ClassLoaderType
 import com.github.javaparser.symbolsolver.resolution.typesolvers.CombinedTypeSolver;
 import com.github.javaparser.symbolsolver.resolution.typesolvers.JavaParserTypeSolver;
 import com.github.javaparser.symbolsolver.resolution.typesolvers.ReflectionTypeSolver;
+import com.github.lombrozo.testnames.FilesTree;
+import com.github.lombrozo.testnames.Metrics;
 import com.github.lombrozo.testnames.ProductionClass;
 import com.github.lombrozo.testnames.Project;
 import com.github.lombrozo.testnames.TestClass;
-import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * The project that uses JavaParser.
@@ -65,8 +72,32 @@ public final class JavaParserProject implements Project {
      */
     private final Collection<String> exclusions;
 
+    /**
+     * Class loader of the thread that created the project.
+     * It sees the test dependencies, like JUnit and Hamcrest, while threads
+     * of shared pools may not.
+     */
+    private final ClassLoader loader;
+
+    /**
+     * The number of threads that discover and parse test files.
+     */
+    private final int threads;
+
+    /**
+     * Metrics of walking and parsing the test files.
+     */
+    private final Metrics metrics;
+
+    /**
+     * Symbol resolver shared by all the files of the project.
+     * Each thread that resolves symbols gets its own type solver.
+     */
+    private final SymbolResolver resolver;
+
     /**
      * Ctor.
+     * Test files are parsed by as many threads as there are available processors.
      *
      * @param main The main path where production classes are placed.
      * @param test The test path where test classes are placed.
@@ -76,10 +107,56 @@ public final class JavaParserProject implements Project {
         final Path main,
         final Path test,
         final Collection<String> exclusions
+    ) {
+        this(main, test, exclusions, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param main The main path where production classes are placed.
+     * @param test The test path where test classes are placed.
+     * @param exclusions The rules that have to be excluded from execution.
+     * @param threads The number of threads that discover and parse test files,
+     *  1 to parse them one by one on the consumer thread.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public JavaParserProject(
+        final Path main,
+        final Path test,
+        final Collection<String> exclusions,
+        final int threads
+    ) {
+        this(main, test, exclusions, threads, new Metrics.Empty());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param main The main path where production classes are placed.
+     * @param test The test path where test classes are placed.
+     * @param exclusions The rules that have to be excluded from execution.
+     * @param threads The number of threads that discover and parse test files,
+     *  1 to parse them one by one on the consumer thread.
+     * @param metrics Metrics of walking and parsing the test files.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public JavaParserProject(
+        final Path main,
+        final Path test,
+        final Collection<String> exclusions,
+        final int threads,
+        final Metrics metrics
     ) {
         this.main = main;
         this.test = test;
         this.exclusions = exclusions;
+        this.threads = threads;
+        this.metrics = metrics;
+        this.loader = Thread.currentThread().getContextClassLoader();
+        this.resolver = new SymbolResolverPerThread(
+            () -> JavaParserProject.projectTypes(main, test, this.loader)
+        );
     }
 
     /**
@@ -94,49 +171,99 @@ public final class JavaParserProject implements Project {
 
     @Override
     public Collection<ProductionClass> productionClasses() {
-        final Collection<ProductionClass> res;
-        if (Files.exists(this.main)) {
-            try (Stream<Path> files = Files.walk(this.main)) {
-                res = files
-                    .filter(Files::exists)
-                    .filter(Files::isRegularFile)
-                    .filter(path -> path.toString().endsWith(".java"))
-                    .map(JavaParserProductionClass::new)
-                    .collect(Collectors.toList());
-            } catch (final IOException exception) {
-                throw new IllegalStateException(exception);
-            }
-        } else {
-            res = Collections.emptyList();
-        }
-        return res;
+        return new FilesTree(this.main, ".java", this.threads).files()
+            .stream()
+            .map(JavaParserProductionClass::new)
+            .collect(Collectors.toList());
     }
 
     @Override
     public Collection<TestClass> testClasses() {
-        final Collection<TestClass> res;
-        if (Files.exists(this.test)) {
-            try (Stream<Path> files = Files.walk(this.test)) {
-                res = files
-                    .filter(Files::exists)
-                    .filter(Files::isRegularFile)
-                    .filter(path -> path.toString().endsWith(".java"))
-                    .filter(path -> new JavaParserClass(path, this.projectResolver()).isTest())
-                    .map(
-                        klass -> new JavaParserTestClass(
-                            klass,
-                            this.projectResolver(),
-                            this.exclusions
-                        )
-                    )
-                    .collect(Collectors.toList());
-            } catch (final IOException exception) {
-                throw new IllegalStateException(exception);
-            }
+        try (Stream<TestClass> classes = this.testClassesStream()) {
+            return classes.collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * All test classes one by one.
+     * The files are discovered in parallel and then parsed concurrently,
+     * a few files ahead of the consumer, in the order of discovery.
+     * Parsing runs on threads owned by the stream, so the stream has to be
+     * closed to cancel pending parsing and stop the threads.
+     * With a single thread, the files are parsed one by one by the consumer.
+     * The time of the discovery is recorded as the "walk" phase.
+     * @return Stream of test classes.
+     */
+    @Override
+    public Stream<TestClass> testClassesStream() {
+        final long start = System.nanoTime();
+        final List<Path> files = new FilesTree(this.test, ".java", this.threads).files();
+        this.metrics.phase("walk", System.nanoTime() - start);
+        final Stream<Optional<TestClass>> parsed;
+        if (this.threads > 1) {
+            parsed = this.prefetched(files);
         } else {
-            res = Collections.emptyList();
+            parsed = files.stream().map(this::parsed);
+        }
+        return parsed.filter(Optional::isPresent).map(Optional::get);
+    }
+
+    /**
+     * Files parsed concurrently on threads owned by the stream.
+     * @param files Files to parse.
+     * @return Stream of parsed files.
+     */
+    private Stream<Optional<TestClass>> prefetched(final List<Path> files) {
+        final ExecutorService executor = Executors.newFixedThreadPool(
+            this.threads,
+            runnable -> {
+                final Thread thread = new Thread(runnable, "jtcop-parser");
+                thread.setDaemon(true);
+                thread.setContextClassLoader(this.loader);
+                return thread;
+            }
+        );
+        final Prefetched<Path, Optional<TestClass>> parsed = new Prefetched<>(
+            files.iterator(),
+            this::parsed,
+            this.threads * 2,
+            executor
+        );
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(
+                parsed,
+                Spliterator.ORDERED | Spliterator.NONNULL
+            ),
+            false
+        ).onClose(
+            () -> {
+                parsed.close();
+                executor.shutdownNow();
+            }
+        );
+    }
+
+    /**
+     * Parse the file once and convert it to a test class if it is a test.
+     * The parsed class is reused by the test class, so each file is parsed only once.
+     * Files that can't contain tests are skipped without parsing.
+     * The time of parsing is added up to the "parse" phase.
+     *
+     * @param path Path to the java file.
+     * @return Test class if the file is a test.
+     */
+    private Optional<TestClass> parsed(final Path path) {
+        Optional<TestClass> result = Optional.empty();
+        if (new TestCandidate(path).possible()) {
+            final long start = System.nanoTime();
+            final JavaParserClass klass = new JavaParserClass(path, this.resolver);
+            final boolean found = klass.isTest();
+            this.metrics.phase("parse", System.nanoTime() - start);
+            if (found) {
+                result = Optional.of(new JavaParserTestClass(path, klass, this.exclusions));
+            }
         }
-        return res;
+        return result;
     }
 
     /**
@@ -158,20 +285,29 @@ public final class JavaParserProject implements Project {
     }
 
     /**
-     * Resolver for JavaParser.
+     * Type solver for JavaParser.
+     * It is built once per project and thread, so the type solvers keep their
+     * caches warm between the files.
      *
-     * @return Symbol resolver.
+     * @param main The main path where production classes are placed.
+     * @param test The test path where test classes are placed.
+     * @param loader Class loader that sees the test dependencies.
+     * @return Type solver.
      */
-    private SymbolResolver projectResolver() {
-        final List<TypeSolver> solvers = new ArrayList(0);
+    private static TypeSolver projectTypes(
+        final Path main,
+        final Path test,
+        final ClassLoader loader
+    ) {
+        final List<TypeSolver> solvers = new ArrayList<>(0);
         solvers.add(new ReflectionTypeSolver());
-        solvers.add(new ClassLoaderTypeSolver(Thread.currentThread().getContextClassLoader()));
-        if (Files.exists(this.main)) {
-            solvers.add(new JavaParserTypeSolver(this.main));
+        solvers.add(new ClassLoaderTypeSolver(loader));
+        if (Files.exists(main)) {
+            solvers.add(new JavaParserTypeSolver(main));
         }
-        if (Files.exists(this.test)) {
-            solvers.add(new JavaParserTypeSolver(this.test));
+        if (Files.exists(test)) {
+            solvers.add(new JavaParserTypeSolver(test));
         }
-        return new JavaSymbolSolver(new CombinedTypeSolver(solvers.toArray(new TypeSolver[0])));
+        return new CombinedTypeSolver(solvers.toArray(new TypeSolver[0]));
     }
 }
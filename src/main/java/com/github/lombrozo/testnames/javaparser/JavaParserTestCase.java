@@ -30,12 +30,20 @@ import com.github.javaparser.ast.body.MethodDeclaration;
 import com.github.javaparser.ast.stmt.ExpressionStmt;
 import com.github.javaparser.ast.type.VarType;
 import com.github.lombrozo.testnames.Assertion;
+import com.github.lombrozo.testnames.SuppressedRules;
 import com.github.lombrozo.testnames.TestCase;
 import com.github.lombrozo.testnames.TestClass;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
 
 /**
  * Parser for a test case.
@@ -56,6 +64,20 @@ final class JavaParserTestCase implements TestCase {
      */
     private final TestClass parent;
 
+    /**
+     * Assertions of the test case, classified once.
+     */
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final Unchecked<Collection<Assertion>> classified;
+
+    /**
+     * Suppressed rules of the test case, computed once.
+     */
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final Unchecked<SuppressedRules> hidden;
+
     /**
      * Ctor.
      *
@@ -98,6 +120,21 @@ final class JavaParserTestCase implements TestCase {
     ) {
         this.method = method;
         this.parent = parent;
+        this.classified = new Unchecked<>(
+            new Synced<>(new Sticky<>(() -> JavaParserTestCase.classify(method)))
+        );
+        this.hidden = new Unchecked<>(
+            new Synced<>(
+                new Sticky<>(
+                    () -> new SuppressedRules(
+                        Stream.concat(
+                            parent.suppressed().stream(),
+                            new SuppressedAnnotations(method.asMethodDeclaration()).suppressed()
+                        ).collect(Collectors.toSet())
+                    )
+                )
+            )
+        );
     }
 
     @Override
@@ -107,18 +144,12 @@ final class JavaParserTestCase implements TestCase {
 
     @Override
     public Collection<String> suppressed() {
-        return Stream.concat(
-            this.parent.suppressed().stream(),
-            new SuppressedAnnotations(this.method.asMethodDeclaration()).suppressed()
-        ).collect(Collectors.toSet());
+        return this.hidden.value();
     }
 
     @Override
     public Collection<Assertion> assertions() {
-        return this.method.statements()
-            .map(JavaParserAssertion::new)
-            .filter(ParsedAssertion::isAssertion)
-            .collect(Collectors.toList());
+        return this.classified.value();
     }
 
     @Override
@@ -130,4 +161,24 @@ final class JavaParserTestCase implements TestCase {
             .collect(Collectors.toList());
     }
 
+    @Override
+    public long mocks() {
+        return new NumberOfMockitoMocks(this.method.asMethodDeclaration()).value();
+    }
+
+    /**
+     * Classify all the assertions of the method.
+     * @param method Java method
+     * @return Immutable collection of assertions.
+     */
+    private static Collection<Assertion> classify(final JavaParserMethod method) {
+        return Collections.unmodifiableList(
+            method.statements()
+                .map(JavaParserAssertion::new)
+                .map(JavaParserAssertion::classified)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toList())
+        );
+    }
 }
@@ -26,6 +26,7 @@ package com.github.lombrozo.testnames.javaparser;
 
 import com.github.javaparser.ParseProblemException;
 import com.github.javaparser.resolution.SymbolResolver;
+import com.github.lombrozo.testnames.SuppressedRules;
 import com.github.lombrozo.testnames.TestCase;
 import com.github.lombrozo.testnames.TestClass;
 import com.github.lombrozo.testnames.TestClassCharacteristics;
@@ -37,6 +38,7 @@ import java.util.Collections;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
 import org.cactoos.scalar.Unchecked;
 
 /**
@@ -58,9 +60,9 @@ public final class JavaParserTestClass implements TestClass {
     private final Unchecked<JavaParserClass> unit;
 
     /**
-     * Rules excluded for entire project.
+     * Suppressed rules of the class, computed once.
      */
-    private final Collection<String> exclusions;
+    private final Unchecked<SuppressedRules> hidden;
 
     /**
      * Ctor.
@@ -123,6 +125,21 @@ public final class JavaParserTestClass implements TestClass {
         this(klass, JavaParserTestClass.parse(stream, resolver), exclusions);
     }
 
+    /**
+     * Ctor.
+     *
+     * @param klass Path to the class
+     * @param parsed Already parsed class.
+     * @param exclusions Rules excluded for entire project.
+     */
+    JavaParserTestClass(
+        final Path klass,
+        final JavaParserClass parsed,
+        final Collection<String> exclusions
+    ) {
+        this(klass, new Unchecked<>(() -> parsed), exclusions);
+    }
+
     /**
      * Ctor.
      *
@@ -152,7 +169,18 @@ public final class JavaParserTestClass implements TestClass {
     ) {
         this.path = path;
         this.unit = unit;
-        this.exclusions = exclusions;
+        this.hidden = new Unchecked<>(
+            new Synced<>(
+                new Sticky<>(
+                    () -> new SuppressedRules(
+                        Stream.concat(
+                            unit.value().annotations().suppressed(),
+                            exclusions.stream()
+                        ).collect(Collectors.toSet())
+                    )
+                )
+            )
+        );
     }
 
     @Override
@@ -160,13 +188,22 @@ public final class JavaParserTestClass implements TestClass {
         return this.path.getFileName().toString();
     }
 
+    /**
+     * All test cases in the order of declaration.
+     * @return Test cases.
+     */
     @Override
     public Collection<TestCase> all() {
         try {
             return this.unit.value()
                 .methods(new TestsOnly())
-                .map(method -> new JavaParserTestCase(method, this))
-                .collect(Collectors.toSet());
+                .<TestCase>map(method -> new JavaParserTestCase(method, this))
+                .collect(
+                    Collectors.collectingAndThen(
+                        Collectors.toList(),
+                        Collections::unmodifiableList
+                    )
+                );
         } catch (final UncheckedIOException | ParseProblemException ex) {
             throw new IllegalStateException(
                 String.format("Failed to parse Java class by path %s", this.path),
@@ -182,10 +219,7 @@ public final class JavaParserTestClass implements TestClass {
 
     @Override
     public Collection<String> suppressed() {
-        return Stream.concat(
-            this.unit.value().annotations().suppressed(),
-            this.exclusions.stream()
-        ).collect(Collectors.toSet());
+        return this.hidden.value();
     }
 
     @Override
@@ -23,42 +23,150 @@
  */
 package com.github.lombrozo.testnames.javaparser;
 
-import com.github.lombrozo.testnames.TestCase;
-import java.util.regex.Pattern;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.Parameter;
+import com.github.javaparser.ast.body.TypeDeclaration;
+import com.github.javaparser.ast.body.VariableDeclarator;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.FieldAccessExpr;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.nodeTypes.NodeWithAnnotations;
+import java.util.Collections;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.cactoos.Scalar;
+import org.cactoos.set.SetOf;
 
 /**
  * Number of Mockito mocks in the test case.
+ * The mocks are counted right on the AST of the test method: calls of
+ * {@code mock(..)} and {@code spy(..)} (with or without the {@code Mockito}
+ * qualifier), including the nested ones, parameters annotated with
+ * {@code @Mock} or {@code @Spy} and fields annotated with {@code @Mock} or
+ * {@code @Spy} that the test case uses. A bare name counts as a field only
+ * if the method does not declare a local variable or a parameter with the
+ * same name, {@code this.field} always counts.
  *
  * @since 1.3.4
  */
 public final class NumberOfMockitoMocks implements Scalar<Long> {
 
     /**
-     * Mockito Mock Pattern.
+     * Mockito class name.
      */
-    private static final Pattern MOCK_PATTERN =
-        Pattern.compile("^(mock\\(.*?\\);)|(Mockito\\.mock\\(.*?\\);)$");
+    private static final String MOCKITO = "Mockito";
 
     /**
-     * Test case.
+     * Methods that create mocks.
      */
-    private final TestCase test;
+    private static final Set<String> METHODS = new SetOf<>("mock", "spy");
+
+    /**
+     * Annotations that create mocks.
+     */
+    private static final Set<String> ANNOTATIONS = new SetOf<>("Mock", "Spy");
+
+    /**
+     * Test method.
+     */
+    private final MethodDeclaration method;
 
     /**
      * Ctor.
-     * @param tst Test case
+     * @param mthd Test method
      */
-    public NumberOfMockitoMocks(final TestCase tst) {
-        this.test = tst;
+    public NumberOfMockitoMocks(final MethodDeclaration mthd) {
+        this.method = mthd;
     }
 
     @Override
     public Long value() {
-        return this.test.statements().stream()
-            .filter(
-                statement ->
-                    NumberOfMockitoMocks.MOCK_PATTERN.matcher(statement).find()
-            ).count();
+        final Set<String> fields = this.method.findAncestor(TypeDeclaration.class)
+            .map(NumberOfMockitoMocks::mockFields)
+            .orElse(Collections.emptySet());
+        final Set<String> locals = NumberOfMockitoMocks.locals(this.method);
+        final long used = Stream.concat(
+            this.method.findAll(NameExpr.class).stream()
+                .map(NameExpr::getNameAsString)
+                .filter(name -> !locals.contains(name)),
+            this.method.findAll(
+                FieldAccessExpr.class, access -> access.getScope().isThisExpr()
+            ).stream()
+                .map(FieldAccessExpr::getNameAsString)
+        ).filter(fields::contains).distinct().count();
+        return this.method.findAll(MethodCallExpr.class, NumberOfMockitoMocks::isMock).size()
+            + this.method.getParameters().stream()
+                .filter(NumberOfMockitoMocks::isAnnotated)
+                .count()
+            + used;
+    }
+
+    /**
+     * Names declared inside the method: parameters of the method, lambdas and
+     * catch clauses and local variables.
+     * @param method Method declaration.
+     * @return Names that shadow fields.
+     */
+    private static Set<String> locals(final MethodDeclaration method) {
+        return Stream.concat(
+            method.findAll(Parameter.class).stream().map(Parameter::getNameAsString),
+            method.findAll(VariableDeclarator.class).stream()
+                .map(VariableDeclarator::getNameAsString)
+        ).collect(Collectors.toSet());
+    }
+
+    /**
+     * Names of the fields annotated with {@code @Mock} or {@code @Spy}.
+     * @param type Type declaration.
+     * @return Names of the fields.
+     */
+    private static Set<String> mockFields(final TypeDeclaration<?> type) {
+        return type.getFields().stream()
+            .filter(NumberOfMockitoMocks::isAnnotated)
+            .flatMap(field -> field.getVariables().stream())
+            .map(VariableDeclarator::getNameAsString)
+            .collect(Collectors.toSet());
+    }
+
+    /**
+     * Is the node annotated with {@code @Mock} or {@code @Spy}.
+     * @param node Node with annotations.
+     * @return True if annotated.
+     */
+    private static boolean isAnnotated(final NodeWithAnnotations<?> node) {
+        return node.getAnnotations().stream()
+            .map(annotation -> annotation.getName().getIdentifier())
+            .anyMatch(NumberOfMockitoMocks.ANNOTATIONS::contains);
+    }
+
+    /**
+     * Is the call creates a mock.
+     * @param call Method call.
+     * @return True if the call creates a mock.
+     */
+    private static boolean isMock(final MethodCallExpr call) {
+        return NumberOfMockitoMocks.METHODS.contains(call.getNameAsString())
+            && call.getScope().map(NumberOfMockitoMocks::isMockito).orElse(true);
+    }
+
+    /**
+     * Is the expression refers to Mockito class.
+     * @param scope Scope of the call.
+     * @return True if the scope is Mockito.
+     */
+    private static boolean isMockito(final Expression scope) {
+        final boolean result;
+        if (scope.isNameExpr()) {
+            result = NumberOfMockitoMocks.MOCKITO.equals(scope.asNameExpr().getNameAsString());
+        } else if (scope.isFieldAccessExpr()) {
+            result = NumberOfMockitoMocks.MOCKITO.equals(
+                scope.asFieldAccessExpr().getNameAsString()
+            );
+        } else {
+            result = false;
+        }
+        return result;
     }
 }
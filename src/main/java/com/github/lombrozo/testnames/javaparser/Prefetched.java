@@ -0,0 +1,134 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Iterator that maps elements concurrently, a few elements ahead.
+ * The elements are returned in the order of the origin iterator, while at
+ * most {@code ahead} of them are being mapped in the background by the given
+ * executor. Elements that are still pending are cancelled on {@link #close()}.
+ *
+ * @param <X> Type of the origin elements.
+ * @param <Y> Type of the mapped elements.
+ * @since 1.4.0
+ */
+final class Prefetched<X, Y> implements Iterator<Y>, AutoCloseable {
+
+    /**
+     * The origin iterator.
+     */
+    private final Iterator<? extends X> origin;
+
+    /**
+     * The mapping.
+     */
+    private final Function<? super X, ? extends Y> mapping;
+
+    /**
+     * The maximum number of elements mapped in advance.
+     */
+    private final int ahead;
+
+    /**
+     * The executor that maps elements.
+     */
+    private final Executor executor;
+
+    /**
+     * Elements being mapped, in the order of the origin.
+     */
+    private final Deque<CompletableFuture<Y>> queue;
+
+    /**
+     * Ctor.
+     * @param origin The origin iterator.
+     * @param mapping The mapping.
+     * @param ahead The maximum number of elements mapped in advance.
+     * @param executor The executor that maps elements.
+     */
+    Prefetched(
+        final Iterator<? extends X> origin,
+        final Function<? super X, ? extends Y> mapping,
+        final int ahead,
+        final Executor executor
+    ) {
+        this.origin = origin;
+        this.mapping = mapping;
+        this.ahead = Math.max(1, ahead);
+        this.executor = executor;
+        this.queue = new ArrayDeque<>(this.ahead);
+    }
+
+    @Override
+    public boolean hasNext() {
+        this.fill();
+        return !this.queue.isEmpty();
+    }
+
+    @Override
+    public Y next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException("There are no more elements");
+        }
+        try {
+            return this.queue.removeFirst().join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Cancel the elements that are still being mapped.
+     */
+    @Override
+    public void close() {
+        while (!this.queue.isEmpty()) {
+            this.queue.removeFirst().cancel(true);
+        }
+    }
+
+    /**
+     * Start mapping of the next elements.
+     */
+    private void fill() {
+        while (this.queue.size() < this.ahead && this.origin.hasNext()) {
+            final X element = this.origin.next();
+            this.queue.addLast(
+                CompletableFuture.supplyAsync(() -> this.mapping.apply(element), this.executor)
+            );
+        }
+    }
+}
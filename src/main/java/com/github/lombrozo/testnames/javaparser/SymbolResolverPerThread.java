@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.type.Type;
+import com.github.javaparser.resolution.SymbolResolver;
+import com.github.javaparser.resolution.TypeSolver;
+import com.github.javaparser.resolution.declarations.ResolvedReferenceTypeDeclaration;
+import com.github.javaparser.resolution.types.ResolvedType;
+import com.github.javaparser.symbolsolver.JavaSymbolSolver;
+import java.util.function.Supplier;
+
+/**
+ * Symbol resolver that gives each thread its own type solver.
+ * JavaParser keeps one facade per type solver and the caches of the facade
+ * are not synchronized, so a type solver can't be used by several threads at
+ * the same time. Test classes are parsed on one thread and inspected on
+ * another, so the solver is picked by the thread that resolves a symbol,
+ * not by the thread that parsed the file.
+ * Each thread reuses its type solver for all the files it resolves, so the
+ * caches of the type solver stay warm.
+ *
+ * @since 1.4.0
+ */
+final class SymbolResolverPerThread implements SymbolResolver {
+
+    /**
+     * Symbol solvers of the threads.
+     */
+    private final ThreadLocal<SymbolResolver> solvers;
+
+    /**
+     * Ctor.
+     * @param types Factory of type solvers, called once per thread.
+     */
+    SymbolResolverPerThread(final Supplier<? extends TypeSolver> types) {
+        this.solvers = ThreadLocal.withInitial(() -> new JavaSymbolSolver(types.get()));
+    }
+
+    @Override
+    public <T> T resolveDeclaration(final Node node, final Class<T> type) {
+        return this.solvers.get().resolveDeclaration(node, type);
+    }
+
+    @Override
+    public <T> T toResolvedType(final Type type, final Class<T> result) {
+        return this.solvers.get().toResolvedType(type, result);
+    }
+
+    @Override
+    public ResolvedType calculateType(final Expression expression) {
+        return this.solvers.get().calculateType(expression);
+    }
+
+    @Override
+    public ResolvedReferenceTypeDeclaration toTypeDeclaration(final Node node) {
+        return this.solvers.get().toTypeDeclaration(node);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Java file that might contain tests.
+ * A cheap lexical check that runs before the full parse: a test class must
+ * have a method annotated with {@code @Test} or {@code @ParameterizedTest},
+ * so a file without the '@' sign or without the "Test" word can't be a test.
+ * Files with unicode escapes are always considered as candidates, since
+ * the escapes might hide the annotation. The final answer is given by
+ * {@link JavaParserClass#isTest()}.
+ *
+ * @since 1.4.0
+ */
+final class TestCandidate {
+
+    /**
+     * The word every test annotation contains.
+     */
+    private static final byte[] TEST = "Test".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * The start of a unicode escape.
+     */
+    private static final byte[] ESCAPE = "\\u".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * Path to the java file.
+     */
+    private final Path path;
+
+    /**
+     * Ctor.
+     * @param file Path to the java file.
+     */
+    TestCandidate(final Path file) {
+        this.path = file;
+    }
+
+    /**
+     * Might the file contain tests.
+     * @return False if the file can't be a test.
+     */
+    boolean possible() {
+        final boolean result;
+        if ("package-info.java".equals(this.path.getFileName().toString())) {
+            result = false;
+        } else {
+            final byte[] content;
+            try {
+                content = Files.readAllBytes(this.path);
+            } catch (final IOException ex) {
+                throw new IllegalStateException(
+                    String.format("Can't read file %s", this.path),
+                    ex
+                );
+            }
+            result = TestCandidate.indexOf(content, TestCandidate.ESCAPE) >= 0
+                || TestCandidate.indexOf(content, new byte[]{'@'}) >= 0
+                && TestCandidate.indexOf(content, TestCandidate.TEST) >= 0;
+        }
+        return result;
+    }
+
+    /**
+     * Find the first occurrence of the pattern.
+     * @param content Content to search in.
+     * @param pattern Pattern to search for.
+     * @return Index of the first occurrence or -1.
+     */
+    private static int indexOf(final byte[] content, final byte[] pattern) {
+        int result = -1;
+        for (int start = 0; start <= content.length - pattern.length; ++start) {
+            int matched = 0;
+            while (matched < pattern.length
+                && content[start + matched] == pattern[matched]) {
+                ++matched;
+            }
+            if (matched == pattern.length) {
+                result = start;
+                break;
+            }
+        }
+        return result;
+    }
+}
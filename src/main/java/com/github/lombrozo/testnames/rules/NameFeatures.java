@@ -0,0 +1,193 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.rules;
+
+/**
+ * Lexical features of a test name.
+ * All the features are collected in a single pass over the name characters,
+ * so the name rules of the same test case don't scan the name separately.
+ *
+ * @since 1.4.0
+ */
+final class NameFeatures {
+
+    /**
+     * The name starts with an uppercase letter.
+     */
+    private final boolean upper;
+
+    /**
+     * The name contains the same character four or more times in a row.
+     */
+    private final boolean repeats;
+
+    /**
+     * The name contains '$' or '_'.
+     */
+    private final boolean special;
+
+    /**
+     * The name contains 'test', 'Test' or 'TEST'.
+     */
+    private final boolean word;
+
+    /**
+     * The last character before the first capital letter.
+     * If there are no capital letters, the last character of the name.
+     * '!' if the name starts with a capital letter or is empty.
+     */
+    private final char verb;
+
+    /**
+     * Ctor.
+     * @param upper The name starts with an uppercase letter.
+     * @param repeats The name contains repeated characters.
+     * @param special The name contains special characters.
+     * @param word The name contains the 'test' word.
+     * @param verb The last character before the first capital letter.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private NameFeatures(
+        final boolean upper,
+        final boolean repeats,
+        final boolean special,
+        final boolean word,
+        final char verb
+    ) {
+        this.upper = upper;
+        this.repeats = repeats;
+        this.special = special;
+        this.word = word;
+        this.verb = verb;
+    }
+
+    /**
+     * Scan the test name.
+     * @param name The test name.
+     * @return Features of the name.
+     * @checkstyle CyclomaticComplexityCheck (50 lines)
+     */
+    @SuppressWarnings("PMD.CognitiveComplexity")
+    static NameFeatures of(final String name) {
+        boolean repeats = false;
+        boolean special = false;
+        boolean word = false;
+        boolean capital = false;
+        char verb = '!';
+        char prev = '!';
+        int stack = 0;
+        for (int index = 0; index < name.length(); ++index) {
+            final char chr = name.charAt(index);
+            if (chr == prev) {
+                ++stack;
+                if (stack > 2) {
+                    repeats = true;
+                }
+            } else {
+                stack = 0;
+                prev = chr;
+            }
+            if (chr == '$' || chr == '_') {
+                special = true;
+            }
+            if (!word && NameFeatures.word(name, index)) {
+                word = true;
+            }
+            if (!capital) {
+                if (Character.isUpperCase(chr)) {
+                    capital = true;
+                } else {
+                    verb = chr;
+                }
+            }
+        }
+        return new NameFeatures(
+            !name.isEmpty() && Character.isUpperCase(name.charAt(0)),
+            repeats,
+            special,
+            word,
+            verb
+        );
+    }
+
+    /**
+     * Does the name start with an uppercase letter?
+     * @return True if it does.
+     */
+    boolean upperStart() {
+        return this.upper;
+    }
+
+    /**
+     * Does the name contain the same character four or more times in a row?
+     * @return True if it does.
+     */
+    boolean repeats() {
+        return this.repeats;
+    }
+
+    /**
+     * Does the name contain special characters like '$' or '_'?
+     * @return True if it does.
+     */
+    boolean special() {
+        return this.special;
+    }
+
+    /**
+     * Does the name contain the 'test' word?
+     * @return True if it does.
+     */
+    boolean testWord() {
+        return this.word;
+    }
+
+    /**
+     * Is the name written in present tense?
+     * It is if the first word ends with 's'.
+     * @return True if it is.
+     */
+    boolean presentTense() {
+        return this.verb == 's';
+    }
+
+    /**
+     * Does the 'test' word start at the index?
+     * @param name The test name.
+     * @param index The index of the character.
+     * @return True if 'test', 'Test' or 'TEST' starts at the index.
+     */
+    private static boolean word(final String name, final int index) {
+        final char first = name.charAt(index);
+        final boolean result;
+        if (first == 't') {
+            result = name.startsWith("est", index + 1);
+        } else if (first == 'T') {
+            result = name.startsWith("est", index + 1) || name.startsWith("EST", index + 1);
+        } else {
+            result = false;
+        }
+        return result;
+    }
+}
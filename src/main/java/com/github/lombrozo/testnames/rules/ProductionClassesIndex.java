@@ -0,0 +1,122 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.rules;
+
+import com.github.lombrozo.testnames.ProductionClass;
+import com.github.lombrozo.testnames.Project;
+import java.util.Collections;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Index of production classes by the names of their corresponding tests.
+ * The index is built once, on the first lookup, and then shared by all the
+ * test classes of the project.
+ *
+ * @since 1.4.0
+ */
+public final class ProductionClassesIndex {
+
+    /**
+     * The pattern to replace the underscore sign "_".
+     */
+    private static final Pattern UNDERSCORE = Pattern.compile("_");
+
+    /**
+     * The pattern to replace the dollar sign "$".
+     */
+    private static final Pattern DOLLAR = Pattern.compile("\\$");
+
+    /**
+     * Names of the tests that have corresponding production classes.
+     */
+    private final Unchecked<Set<String>> tests;
+
+    /**
+     * Ctor.
+     * @param project The project with production classes.
+     */
+    public ProductionClassesIndex(final Project project) {
+        this.tests = new Unchecked<>(
+            new Synced<>(new Sticky<>(() -> ProductionClassesIndex.index(project)))
+        );
+    }
+
+    /**
+     * Checks if the test has a corresponding production class.
+     * @param test The cleaned name of the test class.
+     * @return True if the production class exists.
+     */
+    boolean hasProductionClass(final String test) {
+        return this.tests.value().contains(test);
+    }
+
+    /**
+     * Removes that not important part of the name.
+     * @param original The original name.
+     * @return The cleaned name.
+     */
+    static String clean(final String original) {
+        final String plain;
+        if (original.endsWith(".java")) {
+            plain = original.substring(0, original.length() - 5);
+        } else if (original.endsWith(".class")) {
+            plain = original.substring(0, original.length() - 6);
+        } else {
+            plain = original;
+        }
+        return ProductionClassesIndex.DOLLAR.matcher(
+            ProductionClassesIndex.UNDERSCORE.matcher(plain).replaceAll("")
+        ).replaceAll("");
+    }
+
+    /**
+     * Checks that the name is not package-info.java.
+     * @param name The name to check.
+     * @return True if the name is not package-info.java.
+     */
+    static boolean isNotPackageInfo(final String name) {
+        return !"package-info.java".equals(name);
+    }
+
+    /**
+     * Builds the index.
+     * @param project The project with production classes.
+     * @return Names of the tests that have corresponding production classes.
+     */
+    private static Set<String> index(final Project project) {
+        return Collections.unmodifiableSet(
+            project.productionClasses()
+                .stream()
+                .map(ProductionClass::name)
+                .filter(ProductionClassesIndex::isNotPackageInfo)
+                .map(name -> String.format("%sTest", ProductionClassesIndex.clean(name)))
+                .collect(Collectors.toSet())
+        );
+    }
+}
@@ -24,17 +24,12 @@
 package com.github.lombrozo.testnames.rules;
 
 import com.github.lombrozo.testnames.Complaint;
-import com.github.lombrozo.testnames.ProductionClass;
 import com.github.lombrozo.testnames.Project;
 import com.github.lombrozo.testnames.Rule;
 import com.github.lombrozo.testnames.TestClass;
 import com.github.lombrozo.testnames.complaints.ComplaintLinked;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Map;
-import java.util.function.Function;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 /**
  * The rule that checks that all tests have production class.
@@ -49,19 +44,9 @@ public final class RuleAllTestsHaveProductionClass implements Rule {
     public static final String NAME = "RuleAllTestsHaveProductionClass";
 
     /**
-     * The pattern to replace the underscore sign "_".
+     * The index of production classes.
      */
-    private static final Pattern UNDERSCORE = Pattern.compile("_");
-
-    /**
-     * The pattern to replace the dollar sign "$".
-     */
-    private static final Pattern DOLLAR = Pattern.compile("\\$");
-
-    /**
-     * The project to check.
-     */
-    private final Project project;
+    private final ProductionClassesIndex index;
 
     /**
      * Test class to check.
@@ -69,32 +54,34 @@ public final class RuleAllTestsHaveProductionClass implements Rule {
     private final TestClass test;
 
     /**
-     * Primary ctor.
+     * Ctor.
      * @param proj The project to check.
      * @param test The test to check.
      */
     public RuleAllTestsHaveProductionClass(final Project proj, final TestClass test) {
-        this.project = proj;
+        this(new ProductionClassesIndex(proj), test);
+    }
+
+    /**
+     * Primary ctor.
+     * @param index The index of production classes shared between test classes.
+     * @param test The test to check.
+     */
+    public RuleAllTestsHaveProductionClass(
+        final ProductionClassesIndex index,
+        final TestClass test
+    ) {
+        this.index = index;
         this.test = test;
     }
 
     @Override
     public Collection<Complaint> complaints() {
-        final Map<String, ProductionClass> classes = this.project.productionClasses()
-            .stream()
-            .filter(clazz -> RuleAllTestsHaveProductionClass.isNotPackageInfo(clazz.name()))
-            .collect(
-                Collectors.toMap(
-                    RuleAllTestsHaveProductionClass::correspondingTest,
-                    Function.identity(),
-                    (first, second) -> first
-                )
-            );
         final Collection<Complaint> complaints = new ArrayList<>(0);
-        final String name = RuleAllTestsHaveProductionClass.clean(this.test.name());
-        if (!classes.containsKey(name)
-            && !this.test.characteristics().isIntegrationTest()
-            && RuleAllTestsHaveProductionClass.isNotPackageInfo(this.test.name())) {
+        final String name = ProductionClassesIndex.clean(this.test.name());
+        if (ProductionClassesIndex.isNotPackageInfo(this.test.name())
+            && !this.index.hasProductionClass(name)
+            && !this.test.characteristics().isIntegrationTest()) {
             complaints.add(
                 new ComplaintLinked(
                     String.format("Test %s doesn't have corresponding production class", name),
@@ -109,41 +96,4 @@ public final class RuleAllTestsHaveProductionClass implements Rule {
         }
         return complaints;
     }
-
-    /**
-     * Returns the name of the test class that corresponds to the production class.
-     * @param clazz Production class.
-     * @return The name of the test class that corresponds to the production class.
-     */
-    private static String correspondingTest(final ProductionClass clazz) {
-        return String.format("%sTest", RuleAllTestsHaveProductionClass.clean(clazz.name()));
-    }
-
-    /**
-     * Removes that not important part of the name.
-     * @param original The original name.
-     * @return The cleaned name.
-     */
-    private static String clean(final String original) {
-        final String plain;
-        if (original.endsWith(".java")) {
-            plain = original.substring(0, original.length() - 5);
-        } else if (original.endsWith(".class")) {
-            plain = original.substring(0, original.length() - 6);
-        } else {
-            plain = original;
-        }
-        return RuleAllTestsHaveProductionClass.DOLLAR.matcher(
-            RuleAllTestsHaveProductionClass.UNDERSCORE.matcher(plain).replaceAll("")
-        ).replaceAll("");
-    }
-
-    /**
-     * Checks that the name is not package-info.java.
-     * @param name The name to check.
-     * @return True if the name is not package-info.java.
-     */
-    private static boolean isNotPackageInfo(final String name) {
-        return !"package-info.java".equals(name);
-    }
 }
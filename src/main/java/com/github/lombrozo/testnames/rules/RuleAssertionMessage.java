@@ -54,16 +54,30 @@ class RuleAssertionMessage implements Rule {
 
     @Override
     public Collection<Complaint> complaints() {
-        final Collection<Assertion> assertions = this.method.assertions();
-        final Collection<Complaint> res = new ArrayList<>(0);
+        return RuleAssertionMessage.check(this.method);
+    }
+
+    /**
+     * Check the assertions of the test case.
+     * The list of complaints is allocated only if there is something to complain about.
+     * @param test The test case.
+     * @return Complaints.
+     */
+    static Collection<Complaint> check(final TestCase test) {
+        final Collection<Assertion> assertions = test.assertions();
+        Collection<Complaint> res = Collections.emptyList();
         if (assertions.isEmpty()) {
-            res.add(new EmptyAssertions(this.method));
+            res = Collections.singletonList(new EmptyAssertions(test));
+        }
+        for (final Assertion assertion : assertions) {
+            if (!assertion.explanation().isPresent()) {
+                if (res.isEmpty()) {
+                    res = new ArrayList<>(1);
+                }
+                res.add(new EmptyAssertionMessage(test, assertion));
+            }
         }
-        assertions.stream()
-            .filter(assertion -> !assertion.explanation().isPresent())
-            .map(assertion -> new EmptyAssertionMessage(this.method, assertion))
-            .forEach(res::add);
-        return Collections.unmodifiableCollection(res);
+        return res;
     }
 
     /**
@@ -73,22 +87,22 @@ class RuleAssertionMessage implements Rule {
     private static final class EmptyAssertions implements Complaint {
 
         /**
-         * The test case.
+         * The test case name.
          */
-        private final TestCase method;
+        private final String method;
 
         /**
          * Ctor.
          * @param test The test case.
          */
         EmptyAssertions(final TestCase test) {
-            this.method = test;
+            this.method = test.name();
         }
 
         @Override
         public String message() {
             return new ComplaintLinked(
-                String.format("Method %s doesn't have assertion statements", this.method.name()),
+                String.format("Method %s doesn't have assertion statements", this.method),
                 "Please add at least one assertion statement to the test method",
                 RuleAssertionMessage.class,
                 "no-assertions.md"
@@ -104,14 +118,14 @@ class RuleAssertionMessage implements Rule {
     private static final class EmptyAssertionMessage implements Complaint {
 
         /**
-         * The test case.
+         * The test case name.
          */
-        private final TestCase method;
+        private final String method;
 
         /**
-         * The assertion.
+         * The assertion source.
          */
-        private final Assertion assertion;
+        private final String assertion;
 
         /**
          * Ctor.
@@ -119,8 +133,8 @@ class RuleAssertionMessage implements Rule {
          * @param check The assertion.
          */
         EmptyAssertionMessage(final TestCase test, final Assertion check) {
-            this.method = test;
-            this.assertion = check;
+            this.method = test.name();
+            this.assertion = check.toString();
         }
 
         @Override
@@ -128,7 +142,7 @@ class RuleAssertionMessage implements Rule {
             return new ComplaintLinked(
                 String.format(
                     "Method '%s' has assertion without message: '%s'",
-                    this.method.name(),
+                    this.method,
                     this.assertion
                 ),
                 "Please add the explanation message to make the test more readable",
@@ -31,6 +31,8 @@ import java.util.function.Supplier;
 
 /**
  * Utility rule that checks condition and returns complaints if condition is true.
+ * The complaint is built only when the condition holds, so checks that pass
+ * don't format any text.
  *
  * @since 0.2
  */
@@ -42,9 +44,9 @@ public final class RuleConditional implements Rule {
     private final Supplier<Boolean> predicate;
 
     /**
-     * Complaints to return if condition is true.
+     * Complaint to return if condition is true.
      */
-    private final Complaint complaint;
+    private final Supplier<? extends Complaint> complaint;
 
     /**
      * Creates ConditionalRule with given predicate and complaint.
@@ -54,6 +56,18 @@ public final class RuleConditional implements Rule {
     RuleConditional(
         final Supplier<Boolean> check,
         final Complaint warning
+    ) {
+        this(check, () -> warning);
+    }
+
+    /**
+     * Creates ConditionalRule with given predicate and lazy complaint.
+     * @param check Condition to check
+     * @param warning Complaint to build if condition is true
+     */
+    RuleConditional(
+        final Supplier<Boolean> check,
+        final Supplier<? extends Complaint> warning
     ) {
         this.predicate = check;
         this.complaint = warning;
@@ -63,7 +77,7 @@ public final class RuleConditional implements Rule {
     public Collection<Complaint> complaints() {
         final Collection<Complaint> res;
         if (this.predicate.get()) {
-            res = Collections.singleton(this.complaint);
+            res = Collections.singleton(this.complaint.get());
         } else {
             res = Collections.emptyList();
         }
@@ -25,15 +25,20 @@
 package com.github.lombrozo.testnames.rules;
 
 import com.github.lombrozo.testnames.Complaint;
+import com.github.lombrozo.testnames.Metrics;
 import com.github.lombrozo.testnames.Parameters;
 import com.github.lombrozo.testnames.Rule;
 import com.github.lombrozo.testnames.TestCase;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.Collections;
 
 /**
  * The rule checks if test case in present simple.
+ * The rules are applied through stateless checks, so a clean test case
+ * costs neither rule objects nor complaints, and suppressed checks are skipped.
+ * Each check is timed right here, since suppression is already checked.
+ * The test name is scanned once and its features are shared by name checks.
  *
  * @since 0.1.0
  */
@@ -41,9 +46,24 @@ import java.util.stream.Stream;
 public final class RuleCorrectTestCase implements Rule {
 
     /**
-     * The rules.
+     * All the checks, in the order of checks.
      */
-    private final Collection<Rule> all;
+    private static final Check[] CHECKS = Check.values();
+
+    /**
+     * The test case to check.
+     */
+    private final TestCase test;
+
+    /**
+     * Parameters to use for the check.
+     */
+    private final Parameters parameters;
+
+    /**
+     * Metrics of rule evaluations.
+     */
+    private final Metrics metrics;
 
     /**
      * Ctor.
@@ -52,23 +72,230 @@ public final class RuleCorrectTestCase implements Rule {
      * @param parameters Parameters to use for the check.
      */
     RuleCorrectTestCase(final TestCase test, final Parameters parameters) {
-        this.all = Stream.of(
-            new RuleNotCamelCase(test),
-            new RuleNotContainsTestWord(test),
-            new RuleNotSpam(test),
-            new RuleNotUsesSpecialCharacters(test),
-            new RulePresentTense(test),
-            new RuleAssertionMessage(test),
-            new RuleLineHitter(test),
-            new RuleTestCaseContainsMockery(test, parameters)
-        ).map(rule -> new RuleSuppressed(rule, test)).collect(Collectors.toList());
+        this(test, parameters, new Metrics.Empty());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param test The test case to check
+     * @param parameters Parameters to use for the check.
+     * @param metrics Metrics of rule evaluations.
+     */
+    RuleCorrectTestCase(
+        final TestCase test,
+        final Parameters parameters,
+        final Metrics metrics
+    ) {
+        this.test = test;
+        this.parameters = parameters;
+        this.metrics = metrics;
     }
 
     @Override
     public Collection<Complaint> complaints() {
-        return this.all.stream()
-            .map(Rule::complaints)
-            .flatMap(Collection::stream)
-            .collect(Collectors.toList());
+        final Collection<String> hidden = this.test.suppressed();
+        final NameFeatures features = NameFeatures.of(this.test.name());
+        Collection<Complaint> result = Collections.emptyList();
+        for (final Check check : RuleCorrectTestCase.CHECKS) {
+            if (!hidden.contains(check.rule())) {
+                final long start = System.nanoTime();
+                final Collection<Complaint> found =
+                    check.complaints(this.test, features, this.parameters);
+                this.metrics.rule(check.rule(), System.nanoTime() - start, found.size());
+                if (!found.isEmpty()) {
+                    if (result.isEmpty()) {
+                        result = new ArrayList<>(found.size());
+                    }
+                    result.addAll(found);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Stateless check of a single test case by one of the rules.
+     * Complaints are created only when the check fails.
+     *
+     * @since 1.4.0
+     */
+    private enum Check {
+
+        /**
+         * The test name is not in camel case.
+         */
+        CAMEL_CASE(RuleNotCamelCase.class) {
+            @Override
+            Collection<Complaint> complaints(
+                final TestCase test, final NameFeatures features, final Parameters params
+            ) {
+                final Collection<Complaint> result;
+                if (features.upperStart()) {
+                    result = Collections.singletonList(RuleNotCamelCase.complaint(test));
+                } else {
+                    result = Collections.emptyList();
+                }
+                return result;
+            }
+        },
+
+        /**
+         * The test name contains the word 'test'.
+         */
+        TEST_WORD(RuleNotContainsTestWord.class) {
+            @Override
+            Collection<Complaint> complaints(
+                final TestCase test, final NameFeatures features, final Parameters params
+            ) {
+                final Collection<Complaint> result;
+                if (features.testWord()) {
+                    result = Collections.singletonList(RuleNotContainsTestWord.complaint(test));
+                } else {
+                    result = Collections.emptyList();
+                }
+                return result;
+            }
+        },
+
+        /**
+         * The test name contains duplicated symbols.
+         */
+        SPAM(RuleNotSpam.class) {
+            @Override
+            Collection<Complaint> complaints(
+                final TestCase test, final NameFeatures features, final Parameters params
+            ) {
+                final Collection<Complaint> result;
+                if (features.repeats()) {
+                    result = Collections.singletonList(RuleNotSpam.complaint(test));
+                } else {
+                    result = Collections.emptyList();
+                }
+                return result;
+            }
+        },
+
+        /**
+         * The test name contains special characters.
+         */
+        SPECIAL_CHARACTERS(RuleNotUsesSpecialCharacters.class) {
+            @Override
+            Collection<Complaint> complaints(
+                final TestCase test, final NameFeatures features, final Parameters params
+            ) {
+                final Collection<Complaint> result;
+                if (features.special()) {
+                    result = Collections.singletonList(
+                        RuleNotUsesSpecialCharacters.complaint(test)
+                    );
+                } else {
+                    result = Collections.emptyList();
+                }
+                return result;
+            }
+        },
+
+        /**
+         * The test name is not in present tense.
+         */
+        PRESENT_TENSE(RulePresentTense.class) {
+            @Override
+            Collection<Complaint> complaints(
+                final TestCase test, final NameFeatures features, final Parameters params
+            ) {
+                final Collection<Complaint> result;
+                if (!features.presentTense()) {
+                    result = Collections.singletonList(RulePresentTense.complaint(test));
+                } else {
+                    result = Collections.emptyList();
+                }
+                return result;
+            }
+        },
+
+        /**
+         * The test case has no assertions or assertions without messages.
+         */
+        ASSERTION_MESSAGE(RuleAssertionMessage.class) {
+            @Override
+            Collection<Complaint> complaints(
+                final TestCase test, final NameFeatures features, final Parameters params
+            ) {
+                return RuleAssertionMessage.check(test);
+            }
+        },
+
+        /**
+         * The test case contains a line hitter.
+         */
+        LINE_HITTER(RuleLineHitter.class) {
+            @Override
+            Collection<Complaint> complaints(
+                final TestCase test, final NameFeatures features, final Parameters params
+            ) {
+                final Collection<Complaint> result;
+                if (RuleLineHitter.hits(test)) {
+                    result = Collections.singletonList(RuleLineHitter.complaint(test));
+                } else {
+                    result = Collections.emptyList();
+                }
+                return result;
+            }
+        },
+
+        /**
+         * The test case contains too many mocks.
+         */
+        MOCKERY(RuleTestCaseContainsMockery.class) {
+            @Override
+            Collection<Complaint> complaints(
+                final TestCase test, final NameFeatures features, final Parameters params
+            ) {
+                final long mocks = test.mocks();
+                final int allowed = params.intValue("maxNumberOfMocks").orElse(2);
+                final Collection<Complaint> result;
+                if (mocks > allowed) {
+                    result = Collections.singletonList(
+                        RuleTestCaseContainsMockery.complaint(test, mocks, allowed)
+                    );
+                } else {
+                    result = Collections.emptyList();
+                }
+                return result;
+            }
+        };
+
+        /**
+         * The name of the rule.
+         */
+        private final String name;
+
+        /**
+         * Ctor.
+         * @param rule The class of the rule.
+         */
+        Check(final Class<? extends Rule> rule) {
+            this.name = rule.getSimpleName();
+        }
+
+        /**
+         * The name of the rule, as it is used in suppressions and metrics.
+         * @return The name.
+         */
+        String rule() {
+            return this.name;
+        }
+
+        /**
+         * Check the test case.
+         * @param test The test case to check.
+         * @param features Lexical features of the test name.
+         * @param params Parameters to use for the check.
+         * @return Complaints.
+         */
+        abstract Collection<Complaint> complaints(
+            TestCase test, NameFeatures features, Parameters params
+        );
     }
 }
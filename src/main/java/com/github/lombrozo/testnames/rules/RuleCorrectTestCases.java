@@ -25,6 +25,7 @@
 package com.github.lombrozo.testnames.rules;
 
 import com.github.lombrozo.testnames.Complaint;
+import com.github.lombrozo.testnames.Metrics;
 import com.github.lombrozo.testnames.Parameters;
 import com.github.lombrozo.testnames.Rule;
 import com.github.lombrozo.testnames.TestClass;
@@ -52,6 +53,11 @@ public final class RuleCorrectTestCases implements Rule {
      */
     private final Parameters parameters;
 
+    /**
+     * Metrics of rule evaluations.
+     */
+    private final Metrics metrics;
+
     /**
      * Ctor.
      * @param tests The test cases to check.
@@ -67,8 +73,24 @@ public final class RuleCorrectTestCases implements Rule {
      * @param parameters The parameters to use for the check.
      */
     public RuleCorrectTestCases(final TestClass cases, final Parameters parameters) {
+        this(cases, parameters, new Metrics.Empty());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param cases The cases to check
+     * @param parameters The parameters to use for the check.
+     * @param metrics Metrics of rule evaluations.
+     */
+    public RuleCorrectTestCases(
+        final TestClass cases,
+        final Parameters parameters,
+        final Metrics metrics
+    ) {
         this.tests = cases;
         this.parameters = parameters;
+        this.metrics = metrics;
     }
 
     @Override
@@ -77,7 +99,9 @@ public final class RuleCorrectTestCases implements Rule {
             .map(
                 test ->
                     new RuleSuppressed(
-                        new RuleCorrectTestCase(test, this.parameters), test
+                        new RuleCorrectTestCase(test, this.parameters, this.metrics),
+                        test,
+                        this.metrics
                     )
             ).map(Rule::complaints)
             .flatMap(Collection::stream)
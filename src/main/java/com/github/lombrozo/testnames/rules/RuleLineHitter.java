@@ -56,27 +56,43 @@ public final class RuleLineHitter implements Rule {
     @Override
     public Collection<Complaint> complaints() {
         return new RuleConditional(
-            this::containsLineHitter,
-            new ComplaintLinked(
-                String.format(
-                    "Method '%s' contains line hitter anti-pattern",
-                    this.test.name()
-                ),
-                "Write valuable assertion for this test",
-                this.getClass(),
-                "line-hitter.md"
-            )
+            () -> RuleLineHitter.hits(this.test),
+            () -> RuleLineHitter.complaint(this.test)
         ).complaints();
     }
 
     /**
-     * Just checks if collections contain line hitter.
+     * Just checks if the test case contains line hitter.
      *
+     * @param test The test case
      * @return True if contains line hitter
      */
-    private Boolean containsLineHitter() {
-        return this.test.assertions()
-            .stream()
-            .anyMatch(Assertion::isLineHitter);
+    static boolean hits(final TestCase test) {
+        boolean result = false;
+        for (final Assertion assertion : test.assertions()) {
+            if (assertion.isLineHitter()) {
+                result = true;
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The complaint about the line hitter.
+     *
+     * @param test The test case
+     * @return The complaint.
+     */
+    static Complaint complaint(final TestCase test) {
+        return new ComplaintLinked(
+            String.format(
+                "Method '%s' contains line hitter anti-pattern",
+                test.name()
+            ),
+            "Write valuable assertion for this test",
+            RuleLineHitter.class,
+            "line-hitter.md"
+        );
     }
 }
@@ -48,48 +48,53 @@ public final class RuleNotCamelCase implements Rule {
      */
     private final TestCase test;
 
+    /**
+     * Lexical features of the test name.
+     */
+    private final NameFeatures features;
+
     /**
      * Ctor.
      *
      * @param test The test case
      */
     RuleNotCamelCase(final TestCase test) {
+        this(test, NameFeatures.of(test.name()));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param test The test case
+     * @param features Lexical features of the test name
+     */
+    RuleNotCamelCase(final TestCase test, final NameFeatures features) {
         this.test = test;
+        this.features = features;
     }
 
     @Override
     public Collection<Complaint> complaints() {
         return new RuleConditional(
-            this::notCamelCase,
-            new ComplaintLinked(
-                new ComplaintWrongTestName(
-                    this.test,
-                    "test has to be written by using Camel Case"
-                ).message(),
-                "Please rename the test by using the Camel Case",
-                this.getClass(),
-                "camel-case.md"
-            )
+            this.features::upperStart,
+            () -> RuleNotCamelCase.complaint(this.test)
         ).complaints();
     }
 
     /**
-     * Is not in camel case.
-     *
-     * @return The result
-     * @checkstyle ReturnCountCheck (15 lines)
+     * The complaint about the name of the test case.
+     * @param test The test case
+     * @return The complaint.
      */
-    @SuppressWarnings("PMD.OnlyOneReturn")
-    private boolean notCamelCase() {
-        int stack = 0;
-        for (final char chr : this.test.name().toCharArray()) {
-            if (Character.isUpperCase(chr) && stack == 0) {
-                return true;
-            } else if (stack != 0) {
-                stack = 0;
-            }
-            ++stack;
-        }
-        return false;
+    static Complaint complaint(final TestCase test) {
+        return new ComplaintLinked(
+            new ComplaintWrongTestName(
+                test,
+                "test has to be written by using Camel Case"
+            ).message(),
+            "Please rename the test by using the Camel Case",
+            RuleNotCamelCase.class,
+            "camel-case.md"
+        );
     }
 }
@@ -30,7 +30,6 @@ import com.github.lombrozo.testnames.TestCase;
 import com.github.lombrozo.testnames.complaints.ComplaintLinked;
 import com.github.lombrozo.testnames.complaints.ComplaintWrongTestName;
 import java.util.Collection;
-import java.util.stream.Stream;
 
 /**
  * Test case without a 'test' word in name.
@@ -49,37 +48,53 @@ public final class RuleNotContainsTestWord implements Rule {
      */
     private final TestCase test;
 
+    /**
+     * Lexical features of the test name.
+     */
+    private final NameFeatures features;
+
     /**
      * Ctor.
      *
      * @param test The test case to check
      */
     RuleNotContainsTestWord(final TestCase test) {
+        this(test, NameFeatures.of(test.name()));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param test The test case to check
+     * @param features Lexical features of the test name
+     */
+    RuleNotContainsTestWord(final TestCase test, final NameFeatures features) {
         this.test = test;
+        this.features = features;
     }
 
     @Override
     public Collection<Complaint> complaints() {
         return new RuleConditional(
-            this::containsTest,
-            new ComplaintLinked(
-                new ComplaintWrongTestName(
-                    this.test,
-                    "test name doesn't have to contain the word 'test'"
-                ).message(),
-                "Remove 'test' word from the test name",
-                this.getClass(),
-                "test-word.md"
-            )
+            this.features::testWord,
+            () -> RuleNotContainsTestWord.complaint(this.test)
         ).complaints();
     }
 
     /**
-     * Is contains the 'test' word.
-     *
-     * @return The result
+     * The complaint about the name of the test case.
+     * @param test The test case
+     * @return The complaint.
      */
-    private boolean containsTest() {
-        return Stream.of("test", "TEST", "Test").anyMatch(this.test.name()::contains);
+    static Complaint complaint(final TestCase test) {
+        return new ComplaintLinked(
+            new ComplaintWrongTestName(
+                test,
+                "test name doesn't have to contain the word 'test'"
+            ).message(),
+            "Remove 'test' word from the test name",
+            RuleNotContainsTestWord.class,
+            "test-word.md"
+        );
     }
 }
@@ -43,52 +43,53 @@ public final class RuleNotSpam implements Rule {
      */
     private final TestCase test;
 
+    /**
+     * Lexical features of the test name.
+     */
+    private final NameFeatures features;
+
     /**
      * Ctor.
      *
      * @param test The test case
      */
     RuleNotSpam(final TestCase test) {
+        this(test, NameFeatures.of(test.name()));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param test The test case
+     * @param features Lexical features of the test name
+     */
+    RuleNotSpam(final TestCase test, final NameFeatures features) {
         this.test = test;
+        this.features = features;
     }
 
     @Override
     public Collection<Complaint> complaints() {
         return new RuleConditional(
-            () -> !this.notSpam(),
-            new ComplaintLinked(
-                new ComplaintWrongTestName(
-                    this.test,
-                    "test name doesn't have to contain duplicated symbols"
-                ).message(),
-                "Remove duplicated symbols from the test name",
-                this.getClass(),
-                "not-spam.md"
-            )
+            this.features::repeats,
+            () -> RuleNotSpam.complaint(this.test)
         ).complaints();
     }
 
     /**
-     * Check symbols duplication in test case name.
-     *
-     * @return The result
-     * @checkstyle ReturnCountCheck (30 lines)
+     * The complaint about the name of the test case.
+     * @param test The test case
+     * @return The complaint.
      */
-    @SuppressWarnings("PMD.OnlyOneReturn")
-    private boolean notSpam() {
-        int stack = 0;
-        char prev = '!';
-        for (final char chr : this.test.name().toCharArray()) {
-            if (chr == prev) {
-                ++stack;
-            } else {
-                stack = 0;
-                prev = chr;
-            }
-            if (stack > 2) {
-                return false;
-            }
-        }
-        return true;
+    static Complaint complaint(final TestCase test) {
+        return new ComplaintLinked(
+            new ComplaintWrongTestName(
+                test,
+                "test name doesn't have to contain duplicated symbols"
+            ).message(),
+            "Remove duplicated symbols from the test name",
+            RuleNotSpam.class,
+            "not-spam.md"
+        );
     }
 }
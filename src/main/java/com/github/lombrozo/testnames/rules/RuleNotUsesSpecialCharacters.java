@@ -43,37 +43,53 @@ public final class RuleNotUsesSpecialCharacters implements Rule {
      */
     private final TestCase test;
 
+    /**
+     * Lexical features of the test name.
+     */
+    private final NameFeatures features;
+
     /**
      * Ctor.
      *
      * @param test The test case to check
      */
     RuleNotUsesSpecialCharacters(final TestCase test) {
+        this(test, NameFeatures.of(test.name()));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param test The test case to check
+     * @param features Lexical features of the test name
+     */
+    RuleNotUsesSpecialCharacters(final TestCase test, final NameFeatures features) {
         this.test = test;
+        this.features = features;
     }
 
     @Override
     public Collection<Complaint> complaints() {
         return new RuleConditional(
-            this::usesSpecialCharacters,
-            new ComplaintLinked(
-                new ComplaintWrongTestName(
-                    this.test,
-                    "test name shouldn't contain special characters like '$' or '_'"
-                ).message(),
-                "Remove all special characters like '$' or '_' from test name",
-                this.getClass(),
-                "not-special-characters.md"
-            )
+            this.features::special,
+            () -> RuleNotUsesSpecialCharacters.complaint(this.test)
         ).complaints();
     }
 
     /**
-     * Is contain special chars.
-     *
-     * @return The result
+     * The complaint about the name of the test case.
+     * @param test The test case
+     * @return The complaint.
      */
-    private boolean usesSpecialCharacters() {
-        return this.test.name().contains("$") || this.test.name().contains("_");
+    static Complaint complaint(final TestCase test) {
+        return new ComplaintLinked(
+            new ComplaintWrongTestName(
+                test,
+                "test name shouldn't contain special characters like '$' or '_'"
+            ).message(),
+            "Remove all special characters like '$' or '_' from test name",
+            RuleNotUsesSpecialCharacters.class,
+            "not-special-characters.md"
+        );
     }
 }
@@ -43,48 +43,53 @@ public final class RulePresentTense implements Rule {
      */
     private final TestCase test;
 
+    /**
+     * Lexical features of the test name.
+     */
+    private final NameFeatures features;
+
     /**
      * Ctor.
      *
      * @param tst The test case to check
      */
     RulePresentTense(final TestCase tst) {
+        this(tst, NameFeatures.of(tst.name()));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param tst The test case to check
+     * @param features Lexical features of the test name
+     */
+    RulePresentTense(final TestCase tst, final NameFeatures features) {
         this.test = tst;
+        this.features = features;
     }
 
     @Override
     public Collection<Complaint> complaints() {
         return new RuleConditional(
-            () -> !this.presentTense(),
-            new ComplaintLinked(
-                new ComplaintWrongTestName(
-                    this.test,
-                    "the test name has to be written using present tense"
-                ).message(),
-                "Please, rename the test name using present tense",
-                this.getClass(),
-                "present-tense.md"
-            )
+            () -> !this.features.presentTense(),
+            () -> RulePresentTense.complaint(this.test)
         ).complaints();
     }
 
     /**
-     * Is test case name in present tense.
-     *
-     * @return The result
-     * @checkstyle ReturnCountCheck (20 lines)
+     * The complaint about the name of the test case.
+     * @param test The test case
+     * @return The complaint.
      */
-    @SuppressWarnings("PMD.OnlyOneReturn")
-    private boolean presentTense() {
-        final char[] chars = this.test.name().toCharArray();
-        char prev = '!';
-        for (final char chr : chars) {
-            if (Character.isUpperCase(chr)) {
-                return prev == 's';
-            } else {
-                prev = chr;
-            }
-        }
-        return prev == 's';
+    static Complaint complaint(final TestCase test) {
+        return new ComplaintLinked(
+            new ComplaintWrongTestName(
+                test,
+                "the test name has to be written using present tense"
+            ).message(),
+            "Please, rename the test name using present tense",
+            RulePresentTense.class,
+            "present-tense.md"
+        );
     }
 }
@@ -24,7 +24,9 @@
 package com.github.lombrozo.testnames.rules;
 
 import com.github.lombrozo.testnames.Complaint;
+import com.github.lombrozo.testnames.Metrics;
 import com.github.lombrozo.testnames.Rule;
+import com.github.lombrozo.testnames.SuppressedRules;
 import com.github.lombrozo.testnames.TestCase;
 import com.github.lombrozo.testnames.TestClass;
 import java.util.Collection;
@@ -41,10 +43,20 @@ public final class RuleSuppressed implements Rule {
      */
     private final Rule delegate;
 
+    /**
+     * Simple name of the delegate class.
+     */
+    private final String name;
+
     /**
      * The suppressed rules.
      */
-    private final Collection<String> suppressed;
+    private final SuppressedRules suppressed;
+
+    /**
+     * Metrics of rule evaluations.
+     */
+    private final Metrics metrics;
 
     /**
      * Ctor.
@@ -52,7 +64,17 @@ public final class RuleSuppressed implements Rule {
      * @param test The test
      */
     public RuleSuppressed(final Rule rule, final TestClass test) {
-        this(rule, test.suppressed());
+        this(rule, test, new Metrics.Empty());
+    }
+
+    /**
+     * Ctor.
+     * @param rule The delegate
+     * @param test The test
+     * @param metrics Metrics of rule evaluations
+     */
+    public RuleSuppressed(final Rule rule, final TestClass test, final Metrics metrics) {
+        this(rule, test.suppressed(), metrics);
     }
 
     /**
@@ -60,7 +82,11 @@ public final class RuleSuppressed implements Rule {
      * @param rule The delegate
      */
     RuleSuppressed(final Rule rule) {
-        this(rule, Collections.singleton(rule.getClass().getSimpleName()));
+        this(
+            rule,
+            Collections.singleton(rule.getClass().getSimpleName()),
+            new Metrics.Empty()
+        );
     }
 
     /**
@@ -69,17 +95,34 @@ public final class RuleSuppressed implements Rule {
      * @param test Test case
      */
     RuleSuppressed(final Rule rule, final TestCase test) {
-        this(rule, test.suppressed());
+        this(rule, test, new Metrics.Empty());
+    }
+
+    /**
+     * Ctor.
+     * @param rule Rule to suppress
+     * @param test Test case
+     * @param metrics Metrics of rule evaluations
+     */
+    RuleSuppressed(final Rule rule, final TestCase test, final Metrics metrics) {
+        this(rule, test.suppressed(), metrics);
     }
 
     /**
      * Ctor.
      * @param rule The delegate
      * @param hidden The suppressed rules
+     * @param metrics Metrics of rule evaluations
      */
-    private RuleSuppressed(final Rule rule, final Collection<String> hidden) {
+    private RuleSuppressed(
+        final Rule rule,
+        final Collection<String> hidden,
+        final Metrics metrics
+    ) {
         this.delegate = rule;
-        this.suppressed = hidden;
+        this.name = rule.getClass().getSimpleName();
+        this.suppressed = SuppressedRules.of(hidden);
+        this.metrics = metrics;
     }
 
     @Override
@@ -88,7 +131,9 @@ public final class RuleSuppressed implements Rule {
         if (this.isSuppressed()) {
             result = Collections.emptyList();
         } else {
+            final long start = System.nanoTime();
             result = this.delegate.complaints();
+            this.metrics.rule(this.name, System.nanoTime() - start, result.size());
         }
         return result;
     }
@@ -98,8 +143,6 @@ public final class RuleSuppressed implements Rule {
      * @return True if suppressed
      */
     private boolean isSuppressed() {
-        return this.suppressed.stream().anyMatch(
-            hidden -> hidden.equals(this.delegate.getClass().getSimpleName())
-        );
+        return this.suppressed.suppresses(this.name);
     }
 }
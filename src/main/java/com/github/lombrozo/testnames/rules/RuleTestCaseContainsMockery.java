@@ -28,7 +28,6 @@ import com.github.lombrozo.testnames.Parameters;
 import com.github.lombrozo.testnames.Rule;
 import com.github.lombrozo.testnames.TestCase;
 import com.github.lombrozo.testnames.complaints.ComplaintLinked;
-import com.github.lombrozo.testnames.javaparser.NumberOfMockitoMocks;
 import java.util.Collection;
 
 /**
@@ -74,20 +73,32 @@ public final class RuleTestCaseContainsMockery implements Rule {
 
     @Override
     public Collection<Complaint> complaints() {
-        final Long mocks = new NumberOfMockitoMocks(this.test).value();
+        final long mocks = this.test.mocks();
         return new RuleConditional(
-            () -> mocks > (long) this.allowed,
-            new ComplaintLinked(
-                String.format(
-                    "Method '%s' contains excessive number of mocks: %s. max allowed: %s",
-                    this.test.name(),
-                    mocks,
-                    this.allowed
-                ),
-                "Simplify mocking in test case or stick to fakes",
-                this.getClass(),
-                "mockery.md"
-            )
+            () -> mocks > this.allowed,
+            () -> RuleTestCaseContainsMockery.complaint(this.test, mocks, this.allowed)
         ).complaints();
     }
+
+    /**
+     * The complaint about excessive number of mocks.
+     *
+     * @param test Test case
+     * @param mocks Number of mocks in the test case
+     * @param allowed Allowed number of mocks
+     * @return The complaint.
+     */
+    static Complaint complaint(final TestCase test, final long mocks, final int allowed) {
+        return new ComplaintLinked(
+            String.format(
+                "Method '%s' contains excessive number of mocks: %s. max allowed: %s",
+                test.name(),
+                mocks,
+                allowed
+            ),
+            "Simplify mocking in test case or stick to fakes",
+            RuleTestCaseContainsMockery.class,
+            "mockery.md"
+        );
+    }
 }
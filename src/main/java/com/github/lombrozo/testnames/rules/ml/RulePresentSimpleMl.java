@@ -50,7 +50,7 @@ public final class RulePresentSimpleMl implements Rule {
     /**
      * The Open NLP tagger.
      */
-    private final POSTaggerME model;
+    private final Tagger model;
 
     /**
      * The test to check.
@@ -58,11 +58,22 @@ public final class RulePresentSimpleMl implements Rule {
     private final TestCase test;
 
     /**
-     * The main constructor.
+     * Constructor for a single thread.
      * @param tagger The Open NLP tagger
      * @param tst The test to check
      */
     RulePresentSimpleMl(final POSTaggerME tagger, final TestCase tst) {
+        this(new Tagger(tagger), tst);
+    }
+
+    /**
+     * The main constructor.
+     * Share the same tagger between rules, so each thread reuses its own
+     * Open NLP tagger.
+     * @param tagger The tagger
+     * @param tst The test to check
+     */
+    RulePresentSimpleMl(final Tagger tagger, final TestCase tst) {
         this.model = tagger;
         this.test = tst;
     }
@@ -0,0 +1,77 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.rules.ml;
+
+import opennlp.tools.postag.POSModel;
+import opennlp.tools.postag.POSTaggerME;
+
+/**
+ * Part-of-speech tagger that can be shared between threads.
+ * {@link POSTaggerME} keeps the state of the last tagging, so each thread
+ * gets its own tagger, while all of them use the same immutable
+ * {@link POSModel}.
+ *
+ * @since 1.4.0
+ */
+final class Tagger {
+
+    /**
+     * Taggers of threads.
+     */
+    private final ThreadLocal<POSTaggerME> taggers;
+
+    /**
+     * Ctor.
+     * @param model The model shared by the taggers of all threads.
+     */
+    Tagger(final POSModel model) {
+        this(ThreadLocal.withInitial(() -> new POSTaggerME(model)));
+    }
+
+    /**
+     * Ctor.
+     * All threads use the same tagger, so it is safe only for a single thread.
+     * @param tagger The tagger.
+     */
+    Tagger(final POSTaggerME tagger) {
+        this(ThreadLocal.withInitial(() -> tagger));
+    }
+
+    /**
+     * Primary ctor.
+     * @param taggers Taggers of threads.
+     */
+    private Tagger(final ThreadLocal<POSTaggerME> taggers) {
+        this.taggers = taggers;
+    }
+
+    /**
+     * Tag the words with the tagger of the current thread.
+     * @param words The words of a sentence.
+     * @return Part-of-speech tags of the words.
+     */
+    String[] tag(final String... words) {
+        return this.taggers.get().tag(words);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test for {@link CachedLaw}.
+ *
+ * @since 1.4.0
+ */
+final class CachedLawTest {
+
+    @Test
+    void doesNotInspectUnchangedFileAgain(@TempDir final Path temp) throws IOException {
+        final Path file = Files.write(
+            temp.resolve("UnchangedTest.java"),
+            "class UnchangedTest {}".getBytes(StandardCharsets.UTF_8)
+        );
+        final Project project = new Project.Fake(
+            new TestClass.Fake(file.toString(), new TestCase.Fake())
+        );
+        final AtomicInteger calls = new AtomicInteger(0);
+        final Function<Suspect, Stream<Rule>> law = suspect -> {
+            calls.incrementAndGet();
+            return Stream.of(
+                () -> Collections.singleton(new Complaint.ComplaintText("complaint"))
+            );
+        };
+        final Path stored = temp.resolve("cache.properties");
+        final ComplaintsCache previous = new ComplaintsCache(
+            stored, "config", Collections.singleton(temp)
+        );
+        new Cop(project, new CachedLaw(law, previous)).inspection();
+        previous.save();
+        final Collection<Complaint> complaints = new Cop(
+            project,
+            new CachedLaw(law, new ComplaintsCache(stored, "config", Collections.singleton(temp)))
+        ).inspection();
+        MatcherAssert.assertThat(
+            "The law should be applied only once for the unchanged file",
+            calls.get(),
+            Matchers.equalTo(1)
+        );
+        MatcherAssert.assertThat(
+            "Cached complaints should be returned for the unchanged file",
+            complaints,
+            Matchers.hasSize(1)
+        );
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.stream.Collectors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test for {@link ComplaintsCache}.
+ *
+ * @since 1.4.0
+ */
+final class ComplaintsCacheTest {
+
+    @Test
+    void restoresComplaintsSavedByPreviousBuild(@TempDir final Path temp) throws IOException {
+        final Path sources = ComplaintsCacheTest.sources(temp);
+        final Path stored = temp.resolve("cache.properties");
+        final ComplaintsCache previous = new ComplaintsCache(
+            stored, "config", Collections.singleton(sources)
+        );
+        previous.put(
+            previous.key(sources.resolve("SomeTest.java")).get(),
+            Arrays.asList(
+                new Complaint.ComplaintText("first\n\tline"),
+                new Complaint.ComplaintText("second")
+            )
+        );
+        previous.save();
+        MatcherAssert.assertThat(
+            "Complaints should be restored from the cache if nothing has changed",
+            ComplaintsCacheTest.restored(stored, "config", sources, "SomeTest.java"),
+            Matchers.contains("first\n\tline", "second")
+        );
+    }
+
+    @Test
+    void checksAgainOnlyChangedTestFile(@TempDir final Path temp) throws IOException {
+        final Path sources = ComplaintsCacheTest.sources(temp);
+        final Path stored = temp.resolve("cache.properties");
+        ComplaintsCacheTest.save(stored, "config", sources);
+        Files.write(
+            sources.resolve("SomeTest.java"),
+            "class SomeTest { int field; }".getBytes(StandardCharsets.UTF_8)
+        );
+        final ComplaintsCache current = new ComplaintsCache(
+            stored, "config", Collections.singleton(sources)
+        );
+        MatcherAssert.assertThat(
+            "Only the changed test file should be checked again",
+            Arrays.asList(
+                current.complaints(current.key(sources.resolve("SomeTest.java")).get())
+                    .isPresent(),
+                current.complaints(current.key(sources.resolve("OtherTest.java")).get())
+                    .isPresent()
+            ),
+            Matchers.contains(false, true)
+        );
+    }
+
+    @Test
+    void keepsCacheWhenNewTestFileAppears(@TempDir final Path temp) throws IOException {
+        final Path sources = ComplaintsCacheTest.sources(temp);
+        final Path stored = temp.resolve("cache.properties");
+        ComplaintsCacheTest.save(stored, "config", sources);
+        Files.write(
+            sources.resolve("NewTest.java"),
+            "class NewTest {}".getBytes(StandardCharsets.UTF_8)
+        );
+        MatcherAssert.assertThat(
+            "Complaints of unchanged test files should be restored if a new test file appears",
+            ComplaintsCacheTest.restored(stored, "config", sources, "SomeTest.java"),
+            Matchers.contains("complaint of SomeTest.java")
+        );
+    }
+
+    @Test
+    void ignoresCacheWhenHelperChanges(@TempDir final Path temp) throws IOException {
+        final Path sources = ComplaintsCacheTest.sources(temp);
+        final Path stored = temp.resolve("cache.properties");
+        ComplaintsCacheTest.save(stored, "config", sources);
+        Files.write(
+            sources.resolve("CustomMatcher.java"),
+            "class CustomMatcher { int field; }".getBytes(StandardCharsets.UTF_8)
+        );
+        final ComplaintsCache current = new ComplaintsCache(
+            stored, "config", Collections.singleton(sources)
+        );
+        MatcherAssert.assertThat(
+            "Complaints should not be restored if a file that is not a test has changed",
+            current.complaints(current.key(sources.resolve("SomeTest.java")).get())
+                .isPresent(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void ignoresCacheWhenConfigurationChanges(@TempDir final Path temp) throws IOException {
+        final Path sources = ComplaintsCacheTest.sources(temp);
+        final Path stored = temp.resolve("cache.properties");
+        ComplaintsCacheTest.save(stored, "first", sources);
+        final ComplaintsCache current = new ComplaintsCache(
+            stored, "second", Collections.singleton(sources)
+        );
+        MatcherAssert.assertThat(
+            "Complaints should not be restored if the configuration has changed",
+            current.complaints(current.key(sources.resolve("SomeTest.java")).get())
+                .isPresent(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void returnsNothingWithoutCacheFile(@TempDir final Path temp) throws IOException {
+        final Path sources = ComplaintsCacheTest.sources(temp);
+        final ComplaintsCache cache = new ComplaintsCache(
+            temp.resolve("absent.properties"),
+            "config",
+            Collections.singleton(sources)
+        );
+        MatcherAssert.assertThat(
+            "Complaints should not be restored if there is no cache file",
+            cache.complaints(cache.key(sources.resolve("SomeTest.java")).get()).isPresent(),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * Write the test sources.
+     * @param temp Temporary directory.
+     * @return Path to the sources.
+     * @throws IOException If the files can't be written.
+     */
+    private static Path sources(final Path temp) throws IOException {
+        final Path dir = Files.createDirectories(temp.resolve("test"));
+        Files.write(
+            dir.resolve("SomeTest.java"),
+            "class SomeTest {}".getBytes(StandardCharsets.UTF_8)
+        );
+        Files.write(
+            dir.resolve("OtherTest.java"),
+            "class OtherTest {}".getBytes(StandardCharsets.UTF_8)
+        );
+        Files.write(
+            dir.resolve("CustomMatcher.java"),
+            "class CustomMatcher {}".getBytes(StandardCharsets.UTF_8)
+        );
+        return dir;
+    }
+
+    /**
+     * Save a complaint for each test file, as the previous build would do.
+     * @param stored The cache file.
+     * @param config The configuration.
+     * @param sources Path to the sources.
+     */
+    private static void save(final Path stored, final String config, final Path sources) {
+        final ComplaintsCache cache = new ComplaintsCache(
+            stored, config, Collections.singleton(sources)
+        );
+        for (final String test : Arrays.asList("SomeTest.java", "OtherTest.java")) {
+            cache.put(
+                cache.key(sources.resolve(test)).get(),
+                Collections.singleton(
+                    new Complaint.ComplaintText(String.format("complaint of %s", test))
+                )
+            );
+        }
+        cache.save();
+    }
+
+    /**
+     * Messages restored from the cache for the test file.
+     * @param stored The cache file.
+     * @param config The configuration.
+     * @param sources Path to the sources.
+     * @param test The name of the test file.
+     * @return Messages.
+     */
+    private static Collection<String> restored(
+        final Path stored, final String config, final Path sources, final String test
+    ) {
+        final ComplaintsCache cache = new ComplaintsCache(
+            stored, config, Collections.singleton(sources)
+        );
+        return cache.complaints(cache.key(sources.resolve(test)).get())
+            .map(
+                complaints -> complaints.stream()
+                    .map(Complaint::message)
+                    .collect(Collectors.toList())
+            )
+            .orElse(Collections.emptyList());
+    }
+}
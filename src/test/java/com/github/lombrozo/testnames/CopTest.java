@@ -23,9 +23,22 @@
  */
 package com.github.lombrozo.testnames;
 
+import com.github.lombrozo.testnames.javaparser.JavaParserProject;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 /**
  * Test for {@link Cop}.
@@ -58,4 +71,154 @@ final class CopTest {
             Matchers.hasSize(1)
         );
     }
+
+    @Test
+    void checksInParallelInTheSameOrder() {
+        final Project project = new Project.Fake(
+            Collections.emptyList(),
+            IntStream.range(0, 50)
+                .mapToObj(
+                    index -> new TestClass.Fake(
+                        String.format("Number%dTest", index),
+                        new TestCase.Fake()
+                    )
+                )
+                .collect(Collectors.toList())
+        );
+        MatcherAssert.assertThat(
+            "Parallel inspection should return the same complaints in the same order",
+            new Cop(project, new Parameters(), 8).inspection()
+                .stream()
+                .map(Complaint::message)
+                .collect(Collectors.toList()),
+            Matchers.equalTo(
+                new Cop(project).inspection()
+                    .stream()
+                    .map(Complaint::message)
+                    .collect(Collectors.toList())
+            )
+        );
+    }
+
+    @Test
+    void resolvesHamcrestAssertionsInParallel(@TempDir final Path temp) throws IOException {
+        final Path main = Files.createDirectories(temp.resolve("main"));
+        final Path test = Files.createDirectories(temp.resolve("test"));
+        for (int index = 0; index < 20; ++index) {
+            Files.write(
+                main.resolve(String.format("Number%d.java", index)),
+                String.format("final class Number%d {\n}\n", index)
+                    .getBytes(StandardCharsets.UTF_8)
+            );
+            Files.write(
+                test.resolve(String.format("Number%dTest.java", index)),
+                String.join(
+                    "\n",
+                    "import org.hamcrest.MatcherAssert;",
+                    "import org.hamcrest.Matchers;",
+                    "import org.junit.jupiter.api.Test;",
+                    String.format("final class Number%dTest {", index),
+                    "    @Test",
+                    "    void checksValue() {",
+                    "        MatcherAssert.assertThat(1, Matchers.equalTo(1));",
+                    "    }",
+                    "    @Test",
+                    "    void checksMessage() {",
+                    "        MatcherAssert.assertThat(\"message\", 1, Matchers.equalTo(1));",
+                    "    }",
+                    "}",
+                    ""
+                ).getBytes(StandardCharsets.UTF_8)
+            );
+        }
+        final Collection<String> sequential = new Cop(
+            new JavaParserProject(main, test, Collections.emptyList()),
+            new Parameters(),
+            1
+        ).inspection().stream().map(Complaint::message).collect(Collectors.toList());
+        MatcherAssert.assertThat(
+            "Parallel inspection should resolve Hamcrest assertions as the sequential one does",
+            new Cop(
+                new JavaParserProject(main, test, Collections.emptyList()),
+                new Parameters(),
+                4
+            ).inspection().stream().map(Complaint::message).collect(Collectors.toList()),
+            Matchers.allOf(
+                Matchers.equalTo(sequential),
+                Matchers.hasSize(20)
+            )
+        );
+    }
+
+    @Test
+    void appliesSeveralLawsInOnePass() {
+        final AtomicInteger traversals = new AtomicInteger(0);
+        final Project origin = new Project.Fake(
+            new ProductionClass.Fake("CustomClass"),
+            new TestClass.Fake(new TestClassCharacteristics.Fake(1, 2))
+        );
+        final Project project = new Project() {
+            @Override
+            public Collection<ProductionClass> productionClasses() {
+                return origin.productionClasses();
+            }
+
+            @Override
+            public Collection<TestClass> testClasses() {
+                traversals.incrementAndGet();
+                return origin.testClasses();
+            }
+
+            @Override
+            public Stream<TestClass> testClassesStream() {
+                traversals.incrementAndGet();
+                return origin.testClassesStream();
+            }
+        };
+        final Collection<Complaint> complaints = new Cop(
+            project,
+            Arrays.asList(Cop.regular(project, new Parameters()), Cop.experimental()),
+            1
+        ).inspection();
+        MatcherAssert.assertThat(
+            "Cop should apply both regular and experimental laws",
+            complaints,
+            Matchers.hasSize(2)
+        );
+        MatcherAssert.assertThat(
+            "Cop should traverse test classes of the project exactly once",
+            traversals.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void takesTestClassesOneByOne() {
+        final AtomicInteger closed = new AtomicInteger(0);
+        final Project project = new Project() {
+            @Override
+            public Collection<ProductionClass> productionClasses() {
+                return Collections.emptyList();
+            }
+
+            @Override
+            public Collection<TestClass> testClasses() {
+                throw new UnsupportedOperationException("Test classes must be streamed");
+            }
+
+            @Override
+            public Stream<TestClass> testClassesStream() {
+                return IntStream.range(0, 10)
+                    .mapToObj(index -> (TestClass) new TestClass.Fake())
+                    .onClose(closed::incrementAndGet);
+            }
+        };
+        new Cop(project, new Parameters(), 3).inspection();
+        new Cop(project).inspection();
+        MatcherAssert.assertThat(
+            "Cop should take test classes from the stream and close it",
+            closed.get(),
+            Matchers.equalTo(2)
+        );
+    }
 }
@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test class for {@link FilesTree}.
+ *
+ * @since 1.4.0
+ */
+final class FilesTreeTest {
+
+    @Test
+    void findsFilesInNestedDirectoriesInStableOrder(@TempDir final Path temp)
+        throws IOException {
+        Files.createDirectories(temp.resolve("b").resolve("c"));
+        Files.createDirectories(temp.resolve("a"));
+        Files.write(temp.resolve("b").resolve("c").resolve("Third.java"), new byte[0]);
+        Files.write(temp.resolve("b").resolve("Second.java"), new byte[0]);
+        Files.write(temp.resolve("a").resolve("First.java"), new byte[0]);
+        Files.write(temp.resolve("Root.java"), new byte[0]);
+        Files.write(temp.resolve("Ignored.class"), new byte[0]);
+        MatcherAssert.assertThat(
+            "We expect to find all the java files, files of a directory before its subdirectories",
+            new FilesTree(temp, ".java").files()
+                .stream()
+                .map(path -> path.getFileName().toString())
+                .collect(Collectors.toList()),
+            Matchers.contains("Root.java", "First.java", "Second.java", "Third.java")
+        );
+    }
+
+    @Test
+    void returnsNothingForAbsentDirectory(@TempDir final Path temp) {
+        MatcherAssert.assertThat(
+            "We expect no files in a directory that doesn't exist",
+            new FilesTree(temp.resolve("absent"), ".java").files(),
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    void followsSymbolicLinks(@TempDir final Path temp) throws IOException {
+        final Path outside = Files.createDirectories(temp.resolve("outside"));
+        Files.write(outside.resolve("Linked.java"), new byte[0]);
+        Files.createDirectories(outside.resolve("nested"));
+        Files.write(outside.resolve("nested").resolve("Nested.java"), new byte[0]);
+        final Path tree = Files.createDirectories(temp.resolve("tree"));
+        Files.createSymbolicLink(tree.resolve("Link.java"), outside.resolve("Linked.java"));
+        Files.createSymbolicLink(tree.resolve("dir"), outside.resolve("nested"));
+        Files.createSymbolicLink(outside.resolve("nested").resolve("loop"), tree);
+        MatcherAssert.assertThat(
+            "We expect to find linked files and files of linked directories, skipping loops",
+            new FilesTree(tree, ".java").files()
+                .stream()
+                .map(path -> path.getFileName().toString())
+                .collect(Collectors.toList()),
+            Matchers.contains("Link.java", "Nested.java")
+        );
+    }
+}
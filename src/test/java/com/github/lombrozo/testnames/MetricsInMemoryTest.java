@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+import com.github.lombrozo.testnames.rules.RuleAllTestsHaveProductionClass;
+import com.github.lombrozo.testnames.rules.RuleSuppressed;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test class for {@link MetricsInMemory}.
+ *
+ * @since 1.4.0
+ */
+final class MetricsInMemoryTest {
+
+    @Test
+    void recordsRuleEvaluations() {
+        final MetricsInMemory metrics = new MetricsInMemory();
+        final TestClass test = new TestClass.Fake();
+        final Rule rule = new RuleAllTestsHaveProductionClass(new Project.Fake(test), test);
+        new RuleSuppressed(rule, test, metrics).complaints();
+        new RuleSuppressed(rule, test, metrics).complaints();
+        MatcherAssert.assertThat(
+            "Metrics should count calls and complaints of the rule",
+            metrics.json(),
+            Matchers.containsString(
+                "\"RuleAllTestsHaveProductionClass\":{\"calls\":2,"
+            )
+        );
+        MatcherAssert.assertThat(
+            "Metrics should count complaints of the rule",
+            metrics.json(),
+            Matchers.containsString("\"complaints\":2}")
+        );
+    }
+
+    @Test
+    void savesPhasesToFile(@TempDir final Path dir) throws Exception {
+        final MetricsInMemory metrics = new MetricsInMemory();
+        metrics.phase("parse", 1_000_000L);
+        metrics.phase("parse", 2_000_000L);
+        final Path file = dir.resolve("jtcop").resolve("metrics.json");
+        metrics.save(file);
+        MatcherAssert.assertThat(
+            "Saved metrics should contain the total time of the phase",
+            new String(Files.readAllBytes(file)),
+            Matchers.containsString("\"parse\":{\"nanos\":3000000}")
+        );
+    }
+}
@@ -23,6 +23,10 @@
  */
 package com.github.lombrozo.testnames;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
@@ -62,4 +66,69 @@ final class ProjectTest {
             Matchers.hasSize(1)
         );
     }
+
+    @Test
+    void computesOnlyProductionClassesOnce() {
+        final AtomicInteger calls = new AtomicInteger(0);
+        final Project cached = new Project.Cached(
+            new Project() {
+                @Override
+                public Collection<ProductionClass> productionClasses() {
+                    calls.incrementAndGet();
+                    return Collections.singleton(new ProductionClass.Fake());
+                }
+
+                @Override
+                public Collection<TestClass> testClasses() {
+                    calls.incrementAndGet();
+                    return Collections.singleton(new TestClass.Fake());
+                }
+            }
+        );
+        cached.productionClasses();
+        cached.productionClasses();
+        cached.testClasses();
+        cached.testClasses();
+        MatcherAssert.assertThat(
+            "Cached project should compute production classes once and not keep test classes",
+            calls.get(),
+            Matchers.equalTo(3)
+        );
+    }
+
+    @Test
+    void opensCombinedProjectsOneByOne() {
+        final AtomicInteger opened = new AtomicInteger(0);
+        final AtomicInteger closed = new AtomicInteger(0);
+        final Project counted = new Project() {
+            @Override
+            public Collection<ProductionClass> productionClasses() {
+                return Collections.emptyList();
+            }
+
+            @Override
+            public Collection<TestClass> testClasses() {
+                return Collections.singleton(new TestClass.Fake());
+            }
+
+            @Override
+            public Stream<TestClass> testClassesStream() {
+                opened.incrementAndGet();
+                return this.testClasses().stream().onClose(closed::incrementAndGet);
+            }
+        };
+        try (Stream<TestClass> all = new Project.Combined(counted, counted).testClassesStream()) {
+            all.iterator().next();
+            MatcherAssert.assertThat(
+                "Combined project should open the next project only when it is needed",
+                opened.get(),
+                Matchers.equalTo(1)
+            );
+        }
+        MatcherAssert.assertThat(
+            "Combined project should close the opened projects",
+            closed.get(),
+            Matchers.equalTo(1)
+        );
+    }
 }
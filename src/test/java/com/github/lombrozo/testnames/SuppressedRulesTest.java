@@ -0,0 +1,77 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+import java.util.Arrays;
+import java.util.Collections;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link SuppressedRules}.
+ *
+ * @since 1.4.0
+ */
+final class SuppressedRulesTest {
+
+    @Test
+    void suppressesListedRule() {
+        MatcherAssert.assertThat(
+            "Rule from the list should be suppressed",
+            new SuppressedRules(Arrays.asList("RuleNotSpam", "RuleLineHitter"))
+                .suppresses("RuleLineHitter"),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void doesNotSuppressOtherRule() {
+        MatcherAssert.assertThat(
+            "Rule that is not in the list should not be suppressed",
+            new SuppressedRules(Collections.singleton("RuleNotSpam"))
+                .suppresses("RulePresentTense"),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void keepsEachNameOnce() {
+        MatcherAssert.assertThat(
+            "Duplicated names should be kept once",
+            new SuppressedRules(Arrays.asList("RuleCustom", "RuleCustom")),
+            Matchers.hasSize(1)
+        );
+    }
+
+    @Test
+    void reusesTheSameRules() {
+        final SuppressedRules rules = new SuppressedRules(Collections.singleton("RuleNotSpam"));
+        MatcherAssert.assertThat(
+            "Already built suppressed rules should be reused",
+            SuppressedRules.of(rules),
+            Matchers.sameInstance(rules)
+        );
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.bytecode;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javassist.ClassPool;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.io.ResourceOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test cases for {@link BytecodeClass}.
+ *
+ * @since 1.4.0
+ */
+final class BytecodeClassTest {
+
+    @Test
+    @SuppressWarnings("JTCOP.RuleNotContainsTestWord")
+    void detachesParsedClassFromPool(@TempDir final Path temp) throws Exception {
+        final Path path = temp.resolve("RuleTest.class");
+        Files.write(path, new BytesOf(new ResourceOf("generated/RuleTest.class")).asBytes());
+        final ClassPool pool = new ClassPool(true);
+        final BytecodeTestClass test = new BytecodeClass(path, pool).toTest();
+        MatcherAssert.assertThat(
+            String.format("We expect %s to be removed from the class pool", test.name()),
+            pool.getOrNull("com.github.lombrozo.testnames.rules.RuleTest"),
+            Matchers.nullValue()
+        );
+    }
+
+    @Test
+    @SuppressWarnings("JTCOP.RuleNotContainsTestWord")
+    void readsCharacteristicsBeforeDetaching(@TempDir final Path temp) throws Exception {
+        final Path path = temp.resolve("RuleTest.class");
+        Files.write(path, new BytesOf(new ResourceOf("generated/RuleTest.class")).asBytes());
+        MatcherAssert.assertThat(
+            "We expect the parent to be available after the class is detached",
+            new BytecodeClass(path, new ClassPool(true)).toTest().characteristics().parent(),
+            Matchers.equalTo("java.lang.Object")
+        );
+    }
+}
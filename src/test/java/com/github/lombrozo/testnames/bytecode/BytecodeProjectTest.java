@@ -29,6 +29,7 @@ import com.github.lombrozo.testnames.TestClass;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collection;
+import javassist.ClassPool;
 import org.cactoos.bytes.BytesOf;
 import org.cactoos.io.ResourceOf;
 import org.hamcrest.MatcherAssert;
@@ -115,4 +116,19 @@ final class BytecodeProjectTest {
             Matchers.empty()
         );
     }
+
+    @Test
+    @SuppressWarnings("JTCOP.RuleNotContainsTestWord")
+    void doesNotLeakClassesToDefaultPool(@TempDir final Path temp) throws Exception {
+        Files.write(
+            temp.resolve("RuleTest.class"),
+            new BytesOf(new ResourceOf("generated/RuleTest.class")).asBytes()
+        );
+        new BytecodeProject(temp, temp).testClasses();
+        MatcherAssert.assertThat(
+            "We expect parsed classes to stay in the project's own class pool",
+            ClassPool.getDefault().getOrNull("com.github.lombrozo.testnames.rules.RuleTest"),
+            Matchers.nullValue()
+        );
+    }
 }
@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.bytecode;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javassist.ClassPool;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.io.ResourceOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test cases for {@link ClassFileHeader}.
+ *
+ * @since 1.4.0
+ */
+final class ClassFileHeaderTest {
+
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+            "IntegrationTest.class",
+            "OnlineCondition.class",
+            "RuleName.class",
+            "RuleTest.class"
+        }
+    )
+    void readsTheSameNameAsJavassist(
+        final String name,
+        @TempDir final Path temp
+    ) throws Exception {
+        final Path file = temp.resolve(name);
+        Files.write(
+            file,
+            new BytesOf(new ResourceOf(String.format("generated/%s", name))).asBytes()
+        );
+        try (InputStream stream = Files.newInputStream(file)) {
+            MatcherAssert.assertThat(
+                "We expect to read the same class name from the header as javassist does",
+                new ClassFileHeader(file).name(),
+                Matchers.equalTo(new ClassPool(true).makeClass(stream).getName())
+            );
+        }
+    }
+
+    @Test
+    void readsSimpleName(@TempDir final Path temp) throws Exception {
+        final Path file = temp.resolve("RuleTest.class");
+        Files.write(
+            file,
+            new BytesOf(new ResourceOf("generated/RuleTest.class")).asBytes()
+        );
+        MatcherAssert.assertThat(
+            "We expect to read simple name of the class",
+            new ClassFileHeader(file).simpleName(),
+            Matchers.equalTo("RuleTest")
+        );
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link AssertionMethods}.
+ *
+ * @since 1.4.0
+ */
+final class AssertionMethodsTest {
+
+    @Test
+    void findsMinimumNumberOfArgumentsOfJUnitAssertion() {
+        MatcherAssert.assertThat(
+            "We expect 'assertEquals' to accept at least two arguments",
+            AssertionMethods.JUNIT.minimum("assertEquals").orElse(0),
+            Matchers.equalTo(2)
+        );
+    }
+
+    @Test
+    void collectsAssertionsFromSeveralClasses() {
+        final AssertionMethods methods = new AssertionMethods(
+            Assertions.class,
+            MatcherAssert.class
+        );
+        MatcherAssert.assertThat(
+            "We expect assertions from both classes to be recognized",
+            methods.contains("assertTrue") && methods.contains("assertThat"),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void doesNotRecognizeRegularMethod() {
+        MatcherAssert.assertThat(
+            "We expect that 'println' is not recognized as an assertion",
+            AssertionMethods.JUNIT.contains("println"),
+            Matchers.is(false)
+        );
+    }
+}
@@ -26,6 +26,7 @@ package com.github.lombrozo.testnames.javaparser;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
@@ -133,4 +134,45 @@ final class JavaParserAssertionTest {
             Matchers.is(true)
         );
     }
+
+    @Test
+    void classifiesAssertionsAsOriginalCalls() {
+        final List<JavaParserAssertion> all = Stream
+            .of("severalFrameworks", "assertionsWithoutMesssages")
+            .flatMap(name -> JavaTestClasses.TEST_WITH_ASSERTIONS.method(name).statements())
+            .map(JavaParserAssertion::new)
+            .collect(Collectors.toList());
+        MatcherAssert.assertThat(
+            "We expect classified assertions to keep explanations, hitter flags and sources",
+            all.stream()
+                .map(JavaParserAssertion::classified)
+                .map(
+                    classified -> classified.map(
+                        assertion -> String.format(
+                            "%s %s %s",
+                            assertion.explanation().isPresent(),
+                            assertion.isLineHitter(),
+                            assertion
+                        )
+                    )
+                )
+                .collect(Collectors.toList()),
+            Matchers.equalTo(
+                all.stream()
+                    .map(
+                        call -> Optional.of(call)
+                            .filter(JavaParserAssertion::isAssertion)
+                            .map(
+                                assertion -> String.format(
+                                    "%s %s %s",
+                                    assertion.explanation().isPresent(),
+                                    assertion.isLineHitter(),
+                                    assertion
+                                )
+                            )
+                    )
+                    .collect(Collectors.toList())
+            )
+        );
+    }
 }
@@ -0,0 +1,107 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link JavaParserMethod}.
+ *
+ * @since 1.4.0
+ */
+final class JavaParserMethodTest {
+
+    @Test
+    void collectsStatementsInSourceOrder() {
+        final List<String> names = new JavaParserClass(
+            new ByteArrayInputStream(
+                String.join(
+                    "\n",
+                    "class OrderTest {",
+                    "  void order() {",
+                    "    first();",
+                    "    if (true) { second(); } else { third(); }",
+                    "    for (int i = 0; i < 1; ++i) { fourth(); }",
+                    "    fifth();",
+                    "  }",
+                    "}"
+                ).getBytes(StandardCharsets.UTF_8)
+            ),
+            JavaParserProject.resolver()
+        ).methods()
+            .flatMap(JavaParserMethod::statements)
+            .map(MethodCallExpr::getNameAsString)
+            .collect(Collectors.toList());
+        MatcherAssert.assertThat(
+            "We expect all the nested method calls in the order of the source",
+            names,
+            Matchers.contains("first", "second", "third", "fourth", "fifth")
+        );
+    }
+
+    @Test
+    void collectsStatementsOfLargeMethod() {
+        final int size = 10_000;
+        final String body = IntStream.range(0, size)
+            .mapToObj(idx -> String.format("    call%d();", idx))
+            .collect(Collectors.joining("\n"));
+        MatcherAssert.assertThat(
+            "We expect to collect all the statements of a large generated method",
+            new JavaParserClass(
+                new ByteArrayInputStream(
+                    String.format("class LargeTest {\n  void large() {\n%s\n  }\n}", body)
+                        .getBytes(StandardCharsets.UTF_8)
+                ),
+                JavaParserProject.resolver()
+            ).methods().flatMap(JavaParserMethod::statements).count(),
+            Matchers.equalTo((long) size)
+        );
+    }
+
+    @Test
+    void comparesMethodsWithoutPositionByIdentity() {
+        final MethodDeclaration synthetic = new MethodDeclaration().setName("synthetic");
+        MatcherAssert.assertThat(
+            "We expect methods without position to be equal only to themselves",
+            new JavaParserMethod(synthetic),
+            Matchers.allOf(
+                Matchers.equalTo(new JavaParserMethod(synthetic)),
+                Matchers.not(
+                    Matchers.equalTo(
+                        new JavaParserMethod(new MethodDeclaration().setName("synthetic"))
+                    )
+                )
+            )
+        );
+    }
+}
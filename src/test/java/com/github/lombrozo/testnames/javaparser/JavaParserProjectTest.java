@@ -23,6 +23,7 @@
  */
 package com.github.lombrozo.testnames.javaparser;
 
+import com.github.lombrozo.testnames.Metrics;
 import com.github.lombrozo.testnames.ProductionClass;
 import com.github.lombrozo.testnames.TestCase;
 import com.github.lombrozo.testnames.TestClass;
@@ -32,7 +33,10 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.stream.Collectors;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
@@ -84,6 +88,69 @@ final class JavaParserProjectTest {
         );
     }
 
+    @Test
+    void parsesEachTestClassOnlyOnce(@TempDir final Path temp) throws IOException {
+        final Path path = temp.resolve("TestSimple.java");
+        Files.copy(JavaTestClasses.SIMPLE.inputStream(), path);
+        final Collection<TestClass> classes = new JavaParserProject(temp, temp).testClasses();
+        Files.delete(path);
+        MatcherAssert.assertThat(
+            "We expect that test cases are taken from the already parsed class without reading the file again",
+            classes.iterator().next().all(),
+            Matchers.not(Matchers.empty())
+        );
+    }
+
+    @Test
+    void parsesTheSameClassesWithOneThread(@TempDir final Path temp) throws IOException {
+        Files.copy(JavaTestClasses.SIMPLE.inputStream(), temp.resolve("TestSimple.java"));
+        Files.copy(JavaTestClasses.WRONG_NAME.inputStream(), temp.resolve("WrongName.java"));
+        final List<String> sequential = new JavaParserProject(
+            temp, temp, Collections.emptyList(), 1
+        ).testClasses().stream().map(TestClass::name).collect(Collectors.toList());
+        MatcherAssert.assertThat(
+            "We expect one parsing thread to find the same test classes in the same order",
+            sequential,
+            Matchers.equalTo(
+                new JavaParserProject(temp, temp, Collections.emptyList(), 4)
+                    .testClasses().stream().map(TestClass::name).collect(Collectors.toList())
+            )
+        );
+        MatcherAssert.assertThat(
+            "We expect one parsing thread to find both test classes",
+            sequential,
+            Matchers.hasSize(2)
+        );
+    }
+
+    @Test
+    void recordsWalkAndParsePhases(@TempDir final Path temp) throws IOException {
+        Files.copy(JavaTestClasses.SIMPLE.inputStream(), temp.resolve("TestSimple.java"));
+        final Set<String> phases = new ConcurrentSkipListSet<>();
+        new JavaParserProject(
+            temp,
+            temp,
+            Collections.emptyList(),
+            2,
+            new Metrics() {
+                @Override
+                public void rule(final String rule, final long nanos, final int complaints) {
+                    // Nothing to record.
+                }
+
+                @Override
+                public void phase(final String phase, final long nanos) {
+                    phases.add(phase);
+                }
+            }
+        ).testClasses();
+        MatcherAssert.assertThat(
+            "We expect discovery and parsing of test files to be timed",
+            phases,
+            Matchers.contains("parse", "walk")
+        );
+    }
+
     @Test
     void ignoresAllRulesThatWasAddedToExclusions(@TempDir final Path temp) throws IOException {
         Files.copy(JavaTestClasses.WRONG_NAME.inputStream(), temp.resolve("WrongName.java"));
@@ -397,4 +397,15 @@ final class JavaParserTestCaseTest {
             new IsEqual<>(expected)
         );
     }
+
+    @Test
+    void classifiesAssertionsOnlyOnce() {
+        final TestCase tested = JavaTestClasses.TEST_WITH_JUNIT_ASSERTIONS
+            .testCase("withMessages");
+        MatcherAssert.assertThat(
+            "We expect the same classified assertions on each request",
+            tested.assertions(),
+            Matchers.sameInstance(tested.assertions())
+        );
+    }
 }
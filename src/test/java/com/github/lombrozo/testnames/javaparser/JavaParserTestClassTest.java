@@ -241,4 +241,17 @@ final class JavaParserTestClassTest {
             Matchers.hasSize(1)
         );
     }
+
+    @Test
+    void returnsTestCasesInSourceOrder() {
+        MatcherAssert.assertThat(
+            "We expect test cases in the order they are declared",
+            JavaTestClasses.SIMPLE.toTestClass()
+                .all()
+                .stream()
+                .map(TestCase::name)
+                .collect(Collectors.toList()),
+            Matchers.contains("creates", "removes", "updates")
+        );
+    }
 }
@@ -24,6 +24,8 @@
 package com.github.lombrozo.testnames.javaparser;
 
 import com.github.lombrozo.testnames.TestCase;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import org.cactoos.list.ListOf;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsEqual;
@@ -41,7 +43,7 @@ final class NumberOfMockitoMocksTest {
         final TestCase test = new ListOf<>(
             JavaTestClasses.MOCKERY_TEST.toTestClass().all()
         ).get(0);
-        final Long mocks = new NumberOfMockitoMocks(test).value();
+        final long mocks = test.mocks();
         final long expected = 3L;
         MatcherAssert.assertThat(
             String.format(
@@ -54,4 +56,64 @@ final class NumberOfMockitoMocksTest {
             new IsEqual<>(expected)
         );
     }
+
+    @Test
+    void countsMocksRightOnSyntaxTree() {
+        MatcherAssert.assertThat(
+            "We expect to count calls, an annotated parameter and used annotated fields",
+            NumberOfMockitoMocksTest.mocks(
+                "class NestedMocksTest {",
+                "  @Mock private List<String> list;",
+                "  @Spy private Set<String> set;",
+                "  @Mock private Map<String, String> unused;",
+                "  @Test",
+                "  void usesMocks(@Mock final Runnable runnable) {",
+                "    final Queue queue = mock(Queue.class);",
+                "    when(Mockito.spy(new Object()).toString()).thenReturn(\"\");",
+                "    this.list.add(\"one\");",
+                "    set.add(\"two\");",
+                "  }",
+                "}"
+            ),
+            new IsEqual<>(5L)
+        );
+    }
+
+    @Test
+    void skipsFieldsShadowedByLocalNames() {
+        MatcherAssert.assertThat(
+            "We expect to skip locals and parameters named as mock fields, but not 'this' access",
+            NumberOfMockitoMocksTest.mocks(
+                "class ShadowedMocksTest {",
+                "  @Mock private List<String> list;",
+                "  @Mock private Set<String> set;",
+                "  @Mock private Map<String, String> map;",
+                "  @Test",
+                "  void shadowsMocks(final Set<String> set) {",
+                "    final List<String> list = new ArrayList<>();",
+                "    list.add(\"one\");",
+                "    set.add(\"two\");",
+                "    this.map.clear();",
+                "  }",
+                "}"
+            ),
+            new IsEqual<>(1L)
+        );
+    }
+
+    /**
+     * Count mocks of the first method of the class.
+     * @param lines Lines of the class source.
+     * @return Number of mocks.
+     */
+    private static long mocks(final String... lines) {
+        return new NumberOfMockitoMocks(
+            new JavaParserClass(
+                new ByteArrayInputStream(
+                    String.join("\n", lines).getBytes(StandardCharsets.UTF_8)
+                ),
+                JavaParserProject.resolver()
+            ).methods().findFirst().orElseThrow(IllegalStateException::new).asMethodDeclaration()
+        ).value();
+    }
 }
@@ -0,0 +1,117 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Prefetched}.
+ *
+ * @since 1.4.0
+ */
+final class PrefetchedTest {
+
+    @Test
+    void keepsOrderOfOrigin() {
+        final List<Integer> origin = IntStream.range(0, 100)
+            .boxed()
+            .collect(Collectors.toList());
+        final List<Integer> mapped = new ArrayList<>(0);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            new Prefetched<Integer, Integer>(origin.iterator(), value -> value * 2, 4, executor)
+                .forEachRemaining(mapped::add);
+        } finally {
+            executor.shutdownNow();
+        }
+        MatcherAssert.assertThat(
+            "We expect mapped elements in the order of the origin",
+            mapped,
+            Matchers.equalTo(
+                origin.stream().map(value -> value * 2).collect(Collectors.toList())
+            )
+        );
+    }
+
+    @Test
+    void rethrowsExceptionOfMapping() {
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> new Prefetched<String, String>(
+                Arrays.asList("fine", "broken").iterator(),
+                value -> {
+                    if ("broken".equals(value)) {
+                        throw new IllegalStateException("Can't map");
+                    }
+                    return value;
+                },
+                2,
+                Runnable::run
+            ).forEachRemaining(value -> { }),
+            "We expect the exception of the mapping to be rethrown as is"
+        );
+    }
+
+    @Test
+    void cancelsPendingElementsOnClose() throws InterruptedException {
+        final AtomicInteger mapped = new AtomicInteger();
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (
+            Prefetched<Integer, Integer> prefetched = new Prefetched<>(
+                IntStream.range(0, 10).iterator(),
+                value -> {
+                    try {
+                        Thread.sleep(50L);
+                    } catch (final InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return mapped.incrementAndGet();
+                },
+                10,
+                executor
+            )
+        ) {
+            prefetched.next();
+        }
+        executor.shutdown();
+        executor.awaitTermination(1L, TimeUnit.SECONDS);
+        MatcherAssert.assertThat(
+            "We expect pending elements not to be mapped after close",
+            mapped.get(),
+            Matchers.lessThan(10)
+        );
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.resolution.SymbolResolver;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.ReflectionTypeSolver;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link SymbolResolverPerThread}.
+ *
+ * @since 1.4.0
+ */
+final class SymbolResolverPerThreadTest {
+
+    @Test
+    void createsTypeSolverForEachThread() throws Exception {
+        final AtomicInteger created = new AtomicInteger(0);
+        final SymbolResolver resolver = new SymbolResolverPerThread(
+            () -> {
+                created.incrementAndGet();
+                return new ReflectionTypeSolver();
+            }
+        );
+        final MethodCallExpr call = new JavaParserClass(
+            new ByteArrayInputStream(
+                "class Length { int length() { return \"text\".length(); } }"
+                    .getBytes(StandardCharsets.UTF_8)
+            ),
+            resolver
+        ).methods()
+            .findFirst()
+            .flatMap(method -> method.asMethodDeclaration().findFirst(MethodCallExpr.class))
+            .orElseThrow(IllegalStateException::new);
+        resolver.calculateType(call);
+        resolver.calculateType(call);
+        final ExecutorService other = Executors.newSingleThreadExecutor();
+        try {
+            other.submit(() -> resolver.calculateType(call)).get();
+        } finally {
+            other.shutdownNow();
+        }
+        MatcherAssert.assertThat(
+            "Each thread that resolves symbols should get its own type solver, once",
+            created.get(),
+            Matchers.equalTo(2)
+        );
+    }
+}
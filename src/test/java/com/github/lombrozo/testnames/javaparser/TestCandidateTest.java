@@ -0,0 +1,102 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link TestCandidate}.
+ *
+ * @since 1.4.0
+ */
+final class TestCandidateTest {
+
+    @Test
+    void acceptsFileWithTestAnnotation(@TempDir final Path temp) throws IOException {
+        MatcherAssert.assertThat(
+            "We expect a file with the @Test annotation to be a candidate",
+            new TestCandidate(
+                TestCandidateTest.write(temp, "ATest.java", "class ATest { @Test void a() {} }")
+            ).possible(),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void skipsHelperWithoutAnnotations(@TempDir final Path temp) throws IOException {
+        MatcherAssert.assertThat(
+            "We expect a file without annotations to be skipped",
+            new TestCandidate(
+                TestCandidateTest.write(temp, "Helper.java", "class Helper { void help() {} }")
+            ).possible(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void skipsPackageInfo(@TempDir final Path temp) throws IOException {
+        MatcherAssert.assertThat(
+            "We expect package-info.java to be skipped",
+            new TestCandidate(
+                TestCandidateTest.write(temp, "package-info.java", "@Test package test;")
+            ).possible(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void acceptsFileWithUnicodeEscapes(@TempDir final Path temp) throws IOException {
+        MatcherAssert.assertThat(
+            "We expect a file with unicode escapes to be a candidate",
+            new TestCandidate(
+                TestCandidateTest.write(
+                    temp,
+                    "Escaped.java",
+                    "class Escaped { \\u0040Test void a() {} }"
+                )
+            ).possible(),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * Write a java file.
+     * @param dir Directory.
+     * @param name File name.
+     * @param content File content.
+     * @return Path to the file.
+     * @throws IOException If the file can't be written.
+     */
+    private static Path write(final Path dir, final String name, final String content)
+        throws IOException {
+        return Files.write(dir.resolve(name), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
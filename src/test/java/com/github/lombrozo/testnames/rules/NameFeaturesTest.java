@@ -0,0 +1,73 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.rules;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Test case for {@link NameFeatures}.
+ *
+ * @since 1.4.0
+ */
+final class NameFeaturesTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "createsUser, false, false, false, false, true",
+        "CreatesUser, true, false, false, false, false",
+        "ssssText, false, true, false, false, true",
+        "checksAaaa, false, false, false, false, true",
+        "$execsCorrectly, false, false, true, false, true",
+        "execs_correctly, false, false, true, false, false",
+        "testContent, false, false, false, true, false",
+        "sTESTMy, false, false, false, true, true",
+        "passesTest, false, false, false, true, true",
+        "tESTsomething, false, false, false, false, false",
+        "saves, false, false, false, false, true"
+    })
+    void scansNameInSinglePass(
+        final String name,
+        final boolean upper,
+        final boolean repeats,
+        final boolean special,
+        final boolean word,
+        final boolean present
+    ) {
+        final NameFeatures features = NameFeatures.of(name);
+        MatcherAssert.assertThat(
+            String.format("Features of '%s' should be scanned correctly", name),
+            new boolean[] {
+                features.upperStart(),
+                features.repeats(),
+                features.special(),
+                features.testWord(),
+                features.presentTense()
+            },
+            Matchers.equalTo(new boolean[] {upper, repeats, special, word, present})
+        );
+    }
+}
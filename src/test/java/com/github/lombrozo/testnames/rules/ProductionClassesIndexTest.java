@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.rules;
+
+import com.github.lombrozo.testnames.ProductionClass;
+import com.github.lombrozo.testnames.Project;
+import com.github.lombrozo.testnames.TestClass;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link ProductionClassesIndex}.
+ *
+ * @since 1.4.0
+ */
+final class ProductionClassesIndexTest {
+
+    @Test
+    void findsCorrespondingProductionClass() {
+        MatcherAssert.assertThat(
+            "Index should find production class for the corresponding test",
+            new ProductionClassesIndex(
+                new Project.Fake(new ProductionClass.Fake("Some_Class$1.java"))
+            ).hasProductionClass("SomeClass1Test"),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void ignoresPackageInfo() {
+        MatcherAssert.assertThat(
+            "Index should not contain package-info classes",
+            new ProductionClassesIndex(
+                new Project.Fake(new ProductionClass.Fake("package-info.java"))
+            ).hasProductionClass("package-infoTest"),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void readsProductionClassesOnlyOnce() {
+        final AtomicInteger calls = new AtomicInteger(0);
+        final ProductionClassesIndex index = new ProductionClassesIndex(
+            new Project() {
+                @Override
+                public Collection<ProductionClass> productionClasses() {
+                    calls.incrementAndGet();
+                    return Collections.singleton(new ProductionClass.Fake("Cached"));
+                }
+
+                @Override
+                public Collection<TestClass> testClasses() {
+                    return Collections.emptyList();
+                }
+            }
+        );
+        index.hasProductionClass("CachedTest");
+        index.hasProductionClass("OtherTest");
+        MatcherAssert.assertThat(
+            "Index should read production classes of the project only once",
+            calls.get(),
+            Matchers.equalTo(1)
+        );
+    }
+}
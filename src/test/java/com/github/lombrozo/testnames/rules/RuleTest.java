@@ -26,11 +26,17 @@ package com.github.lombrozo.testnames.rules;
 
 import com.github.lombrozo.testnames.Assertion;
 import com.github.lombrozo.testnames.Complaint;
+import com.github.lombrozo.testnames.Metrics;
 import com.github.lombrozo.testnames.Parameters;
 import com.github.lombrozo.testnames.TestCase;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
@@ -85,4 +91,61 @@ final class RuleTest {
             Matchers.equalTo(expected)
         );
     }
+
+    @Test
+    void skipsAllSuppressedRules() {
+        MatcherAssert.assertThat(
+            "Suppressed rules should not complain about the test case",
+            new RuleCorrectTestCase(
+                new TestCase.Fake(
+                    "_testTestTTTT",
+                    Arrays.asList(
+                        "RuleNotCamelCase",
+                        "RuleNotContainsTestWord",
+                        "RuleNotSpam",
+                        "RuleNotUsesSpecialCharacters",
+                        "RulePresentTense",
+                        "RuleAssertionMessage",
+                        "RuleLineHitter",
+                        "RuleTestCaseContainsMockery"
+                    )
+                ),
+                new Parameters()
+            ).complaints(),
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    void timesEachNotSuppressedRuleOnce() {
+        final List<String> timed = new ArrayList<>(8);
+        new RuleCorrectTestCase(
+            new TestCase.Fake("checksName", Collections.singleton("RuleNotSpam")),
+            new Parameters(),
+            new Metrics() {
+                @Override
+                public void rule(final String rule, final long nanos, final int complaints) {
+                    timed.add(rule);
+                }
+
+                @Override
+                public void phase(final String phase, final long nanos) {
+                    // Nothing to record.
+                }
+            }
+        ).complaints();
+        MatcherAssert.assertThat(
+            "Each rule except the suppressed one should be timed exactly once",
+            timed,
+            Matchers.containsInAnyOrder(
+                "RuleNotCamelCase",
+                "RuleNotContainsTestWord",
+                "RuleNotUsesSpecialCharacters",
+                "RulePresentTense",
+                "RuleAssertionMessage",
+                "RuleLineHitter",
+                "RuleTestCaseContainsMockery"
+            )
+        );
+    }
 }
@@ -24,11 +24,14 @@
 package com.github.lombrozo.testnames.rules.ml;
 
 import com.github.lombrozo.testnames.TestCase;
+import java.util.stream.IntStream;
+import opennlp.tools.postag.POSModel;
 import opennlp.tools.postag.POSTaggerME;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
@@ -44,11 +47,15 @@ final class RulePresentSimpleMlTest {
      */
     private static POSTaggerME model;
 
+    /**
+     * Model shared between threads.
+     */
+    private static POSModel shared;
+
     @BeforeAll
     static void setUp() throws Exception {
-        RulePresentSimpleMlTest.model = new POSTaggerME(
-            new CachedModelSource(new ModelSourceInternet()).model()
-        );
+        RulePresentSimpleMlTest.shared = new CachedModelSource(new ModelSourceInternet()).model();
+        RulePresentSimpleMlTest.model = new POSTaggerME(RulePresentSimpleMlTest.shared);
     }
 
     @CsvSource({
@@ -169,4 +176,23 @@ final class RulePresentSimpleMlTest {
             Matchers.not(Matchers.empty())
         );
     }
+
+    @Test
+    void checksNamesInParallel() {
+        final Tagger tagger = new Tagger(RulePresentSimpleMlTest.shared);
+        final String[] names = {"buildsRequest", "chicken", "locksBranch", "itIsTrue"};
+        MatcherAssert.assertThat(
+            "Each thread should tag names with its own tagger and get the same result",
+            IntStream.range(0, 2_000)
+                .parallel()
+                .filter(
+                    index -> new RulePresentSimpleMl(
+                        tagger,
+                        new TestCase.Fake(names[index % names.length])
+                    ).complaints().isEmpty() != (index % 2 == 0)
+                )
+                .count(),
+            Matchers.equalTo(0L)
+        );
+    }
 }